@@ -0,0 +1,61 @@
+package sanguine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import sanguine.controller.BasicSanguineController;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.strategy.OpeningBookBuilder;
+
+/**
+ * Command-line tool building an opening book for the game SanguineGame starts with the same
+ * board and decks, to be passed to SanguineGame for its "strategy3" players.
+ */
+public final class BuildOpeningBook {
+  /**
+   * Builds an opening book.
+   * There should be 8 command-line arguments:
+   * the number of rows and columns of the board, the paths to Red's and Blue's deck files,
+   * the number of turns the book covers, the time to search each position in milliseconds,
+   * the largest number of turns to look ahead from each position, and the book file to write.
+   * Example input:
+   * 3 5 docs\\example.deck docs\\example.deck 3 200 12 docs\\example.book
+   *
+   * @param args arguments.
+   */
+  public static void main(String[] args) {
+    if (args.length != 8) {
+      System.err.println("Usage: java BuildOpeningBook <numRows> <numCols> <redDeckPath> "
+          + "<blueDeckPath> <turns> <millisPerPosition> <maxDepth> <bookPath>");
+      return;
+    }
+
+    try {
+      int numRows = Integer.parseInt(args[0]);
+      int numCols = Integer.parseInt(args[1]);
+      int turns = Integer.parseInt(args[4]);
+      long millis = Long.parseLong(args[5]);
+      int maxDepth = Integer.parseInt(args[6]);
+
+      SanguineModel model = new BasicSanguineModel(numRows, numCols);
+      model.configureGame(SanguineGame.NUM_HANDS,
+          BasicSanguineController.readDeck(args[2], Player.RED),
+          BasicSanguineController.readDeck(args[3], Player.BLUE),
+          false);
+      //games start once Red has drawn the card of their first turn, so the book starts there too
+      if (!model.getDeck(Player.RED).isEmpty()) {
+        model.drawCard();
+      }
+
+      long start = System.nanoTime();
+      long size = new OpeningBookBuilder(millis, maxDepth).build(model, turns, Path.of(args[7]));
+      System.out.println("Wrote " + size + " positions to " + args[7] + " in "
+          + (System.nanoTime() - start) / 1_000_000_000L + "s");
+    } catch (NumberFormatException e) {
+      System.err.println("Error: Rows, columns, turns, time and depth must be integers");
+    } catch (IllegalArgumentException | IOException e) {
+      System.err.println("Error: " + e.getMessage());
+    }
+  }
+}
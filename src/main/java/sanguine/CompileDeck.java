@@ -0,0 +1,39 @@
+package sanguine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import sanguine.model.CompiledDeck;
+import sanguine.model.FileReader;
+
+/**
+ * Command-line tool compiling a deck file into the binary format of {@link CompiledDeck}. The
+ * compiled file can be given to SanguineGame in place of the deck file.
+ */
+public final class CompileDeck {
+  /**
+   * Compiles a deck.
+   * There should be 2 command-line arguments: the path to the deck file and the compiled file to
+   * write.
+   * Example input:
+   * docs\\example.deck docs\\example.cdeck
+   *
+   * @param args arguments.
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.err.println("Usage: java CompileDeck <deckPath> <compiledPath>");
+      return;
+    }
+
+    try {
+      Path deckFile = FileReader.toPath(args[0]);
+      Path compiledFile = FileReader.toPath(args[1]);
+      long start = System.nanoTime();
+      long cards = CompiledDeck.compile(deckFile, compiledFile);
+      System.out.println("Wrote " + cards + " cards to " + compiledFile + " in "
+          + (System.nanoTime() - start) / 1_000_000L + "ms");
+    } catch (IllegalArgumentException | IOException e) {
+      System.err.println("Error: " + e.getMessage());
+    }
+  }
+}
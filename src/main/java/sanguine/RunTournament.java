@@ -0,0 +1,82 @@
+package sanguine;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import sanguine.controller.BasicSanguineController;
+import sanguine.metrics.InstrumentedStrategy;
+import sanguine.metrics.MetricsRecorder;
+import sanguine.model.Player;
+import sanguine.tournament.Tournament;
+import sanguine.tournament.TournamentResult;
+
+/**
+ * Command-line tool playing a tournament between two machine player types without a GUI, to
+ * measure how much stronger one strategy is than another. How long the strategies take to move
+ * and how long the model takes to apply their moves is printed every ten seconds to standard
+ * error and once more with the results, so that changes in speed show up in tournament logs.
+ */
+public final class RunTournament {
+  //how often the metrics are printed while the tournament runs.
+  private static final long REPORT_PERIOD_MILLIS = 10_000;
+
+  /**
+   * Plays a tournament and prints its results.
+   * There should be 7 to 9 command-line arguments:
+   * the number of rows and columns of the board, the paths to Red's and Blue's deck files,
+   * the two player types as accepted by SanguineGame (not "human"), the number of games,
+   * and optionally the number of threads (by default one per processor) and the seed of the
+   * deck shuffles (by default 0). The two player types take turns playing Red.
+   * Example input:
+   * 3 5 docs\\example.deck docs\\example.deck strategy3:50 strategy2 200 4 42
+   *
+   * @param args arguments.
+   */
+  public static void main(String[] args) {
+    if (args.length < 7 || args.length > 9) {
+      System.err.println("Usage: java RunTournament <numRows> <numCols> <redDeckPath> "
+          + "<blueDeckPath> <firstPlayerType> <secondPlayerType> <games> [<threads>] [<seed>]");
+      return;
+    }
+
+    try {
+      int numRows = Integer.parseInt(args[0]);
+      int numCols = Integer.parseInt(args[1]);
+      int games = Integer.parseInt(args[6]);
+      int threads = args.length > 7 ? Integer.parseInt(args[7])
+          : Runtime.getRuntime().availableProcessors();
+      long seed = args.length > 8 ? Long.parseLong(args[8]) : 0;
+
+      Tournament tournament = new Tournament(numRows, numCols, SanguineGame.NUM_HANDS,
+          BasicSanguineController.readDeck(args[2], Player.RED),
+          BasicSanguineController.readDeck(args[3], Player.BLUE));
+      //fail on unknown types before starting any thread
+      SanguineGame.createStrategy(args[4], null);
+      SanguineGame.createStrategy(args[5], null);
+
+      MetricsRecorder metrics = new MetricsRecorder();
+      String first = "first " + args[4];
+      String second = "second " + args[5];
+      ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().daemon().factory());
+      TournamentResult result;
+      try {
+        metrics.reportEvery(reporter, REPORT_PERIOD_MILLIS, System.err::print);
+        result = tournament.run(
+            () -> new InstrumentedStrategy(first, SanguineGame.createStrategy(args[4], null),
+                metrics),
+            () -> new InstrumentedStrategy(second, SanguineGame.createStrategy(args[5], null),
+                metrics),
+            games, threads, seed, metrics);
+      } finally {
+        reporter.shutdownNow();
+      }
+      System.out.println(args[4] + " vs " + args[5]);
+      System.out.println(result);
+      System.out.print(metrics.summary());
+    } catch (NumberFormatException e) {
+      System.err.println("Error: Rows, columns, games, threads and seed must be integers");
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      System.err.println("Error: " + e.getMessage());
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package sanguine;
 
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import javax.swing.SwingUtilities;
 import sanguine.controller.BasicSanguineController;
 import sanguine.controller.SanguineController;
 import sanguine.model.BasicSanguineModel;
@@ -8,8 +11,13 @@ import sanguine.model.SanguineModel;
 import sanguine.player.HumanPlayer;
 import sanguine.player.MachinePlayer;
 import sanguine.player.PlayerActions;
+import sanguine.strategy.AlphaBetaStrategy;
+import sanguine.strategy.EndgameStrategy;
 import sanguine.strategy.FillFirst;
 import sanguine.strategy.MaximizeRowScore;
+import sanguine.strategy.OpeningBook;
+import sanguine.strategy.OpeningBookStrategy;
+import sanguine.strategy.SanguineStrategy;
 import sanguine.view.IView;
 import sanguine.view.JFrameView;
 
@@ -17,15 +25,24 @@ import sanguine.view.JFrameView;
  * Class for initializing the GUI of Sanguine, using a stub controller.
  */
 public final class SanguineGame {
+  /**
+   * The number of cards in each player's hand at the start of the game.
+   */
+  static final int NUM_HANDS = 5;
+
   /**
    * Starts a game of Sanguine.
-   * There should be 6 command-line arguments:
+   * There should be 6 or 7 command-line arguments:
    * the first is the number of rows on the board
    * the second is the number of columns on the board
    * the third is the path to the file for Red's deck
    * the fourth is the path to the file for Blue's deck
    * fifth and sixth describe each of the players (Red first, then Blue) and their strategies,
    *    for example, `"human"`, `"strategy1"`, `"strategy2"`, and `"strategy3"`.
+   *    `"strategy3"` searches ahead for one second per move, and `"strategy3:<millis>"` gives it
+   *    another time limit per move. Near the end of the game it plays perfectly.
+   * the optional seventh is the path to an opening book written by BuildOpeningBook for the same
+   *    board and decks, which "strategy3" players follow while the game is in the book.
    * Example input:
    * 3 5 docs\\example.deck docs\\example.deck human strategy1
    *
@@ -34,10 +51,10 @@ public final class SanguineGame {
   public static void main(String[] args) {
   
 
-    if (args.length != 6) {
+    if (args.length != 6 && args.length != 7) {
       System.err.println("Usage: java SanguineGame <numRows> <numCols> "
-          + "<redDeckPath> <blueDeckPath> <redPlayerType> <bluePlayerType>");
-      System.err.println("Player types: human, strategy1, strategy2");
+          + "<redDeckPath> <blueDeckPath> <redPlayerType> <bluePlayerType> [<bookPath>]");
+      System.err.println("Player types: human, strategy1, strategy2, strategy3[:<millis>]");
       return;
     }
 
@@ -48,8 +65,9 @@ public final class SanguineGame {
       String blueDeckPath = args[3];
       String redPlayerType = args[4];
       String bluePlayerType = args[5];
+      OpeningBook book = args.length == 7 ? OpeningBook.open(Path.of(args[6])) : null;
 
-      int numHands = 5;
+      int numHands = NUM_HANDS;
       boolean shuffle = false;
 
       SanguineModel model = new BasicSanguineModel(numRows, numCols);
@@ -57,8 +75,8 @@ public final class SanguineGame {
       IView viewPlayer1 = new JFrameView(model, Player.RED);
       IView viewPlayer2 = new JFrameView(model, Player.BLUE);
 
-      PlayerActions player1 = createPlayer(redPlayerType, Player.RED);
-      PlayerActions player2 = createPlayer(bluePlayerType, Player.BLUE);
+      PlayerActions player1 = createPlayer(redPlayerType, Player.RED, book);
+      PlayerActions player2 = createPlayer(bluePlayerType, Player.BLUE, book);
 
       SanguineController controller1 = new BasicSanguineController(viewPlayer1,
           player1, Player.RED);
@@ -82,13 +100,39 @@ public final class SanguineGame {
     }
   }
 
-  private static PlayerActions createPlayer(String type, Player playerColor) {
+  private static PlayerActions createPlayer(String type, Player playerColor, OpeningBook book) {
+    if (type.equalsIgnoreCase("human")) {
+      return new HumanPlayer();
+    }
+    //search off the event thread so the windows stay responsive while a strategy thinks
+    return new MachinePlayer(createStrategy(type, book), playerColor,
+        Executors.newVirtualThreadPerTaskExecutor(), SwingUtilities::invokeLater);
+  }
+
+  /**
+   * Creates the strategy of a machine player type.
+   *
+   * @param type the player type, "strategy1", "strategy2", "strategy3" or "strategy3:<millis>".
+   * @param book the opening book "strategy3" follows, or null to search every move.
+   * @return the strategy.
+   * @throws IllegalArgumentException if the type is unknown.
+   */
+  static SanguineStrategy createStrategy(String type, OpeningBook book) {
+    if (type.toLowerCase().startsWith("strategy3:")) {
+      long millis = Long.parseLong(type.substring("strategy3:".length()));
+      return searchStrategy(millis, book);
+    }
     return switch (type.toLowerCase()) {
-      case "human" -> new HumanPlayer();
-      case "strategy1" -> new MachinePlayer(new FillFirst(), playerColor);
-      case "strategy2" -> new MachinePlayer(new MaximizeRowScore(), playerColor);
-      default -> throw new IllegalArgumentException(
-          "Unknown player type: " + type + ". Use 'human', 'strategy1', or 'strategy2'");
+      case "strategy1" -> new FillFirst();
+      case "strategy2" -> new MaximizeRowScore();
+      case "strategy3" -> searchStrategy(1000, book);
+      default -> throw new IllegalArgumentException("Unknown player type: " + type
+          + ". Use 'human', 'strategy1', 'strategy2', or 'strategy3[:<millis>]'");
     };
   }
-}
\ No newline at end of file
+
+  private static SanguineStrategy searchStrategy(long millis, OpeningBook book) {
+    SanguineStrategy strategy = new EndgameStrategy(new AlphaBetaStrategy(millis), 6, 5, millis);
+    return book == null ? strategy : new OpeningBookStrategy(book, strategy);
+  }
+}
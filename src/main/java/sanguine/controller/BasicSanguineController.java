@@ -1,13 +1,15 @@
 package sanguine.controller;
 
 import java.awt.Point;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.ConcurrentModificationException;
 import java.util.List;
-import sanguine.model.BasicInfluence;
-import sanguine.model.BasicSanguineCard;
+import sanguine.model.CompiledDeck;
+import sanguine.model.DeckFormatException;
+import sanguine.model.DeckRepository;
 import sanguine.model.FileReader;
-import sanguine.model.Influence;
 import sanguine.model.ModelListener;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
@@ -26,6 +28,9 @@ import sanguine.view.IView;
  */
 public class BasicSanguineController implements SanguineController, FeaturesListener,
     ModelListener {
+  //the decks read by every controller, so that games set up again don't read the files again.
+  private static final DeckRepository DECKS = new DeckRepository();
+
   private SanguineModel model;
   private IView view;
   //the index of the card that has been selected according to the publisher.
@@ -33,6 +38,8 @@ public class BasicSanguineController implements SanguineController, FeaturesList
   private Point selectedCell;
   private Player playerColor;
   private PlayerActions player;
+  //whether the model has announced the end of the game, after which no turns are played.
+  private boolean gameOver;
 
   /**
    * Constructor for a controller. Intakes a view and initializes variables except for the model.
@@ -54,56 +61,32 @@ public class BasicSanguineController implements SanguineController, FeaturesList
 
   @Override
   public List<SanguineCard> createDeck(String filePath, Player owner) {
-    List<String> lines = FileReader.getLines(filePath);
-    List<SanguineCard> deck = new ArrayList<>();
-
-    String cardName = null;
-    int cardCost = -1;
-    int cardValue = -1;
-    //loop through each line of document
-    Influence[][] currInfluence = new Influence[5][5];
-
-    for (int fileRow = 0; fileRow < lines.size(); fileRow++) {
-      if (fileRow % 6 == 0) {
-        String[] parts = lines.get(fileRow).split(" ");
-        cardName = parts[0];
-        cardCost = Integer.parseInt(parts[1]);
-        cardValue = Integer.parseInt(parts[2]);
-      } else {
-        int rowInGrid = (fileRow % 6) - 1;
-        String line = lines.get(fileRow);
-        for (int col = 0; col < line.length(); col++) {
-          int gridCol = accurateColumn(col, owner);
-          currInfluence[rowInGrid][gridCol] =
-              line.charAt(col) == 'I' ? new BasicInfluence(1) : null;
-        }
-      }
-      // After 6 lines, create card
-      if (fileRow % 6 == 5) {
-        Influence[][] influenceArray = new Influence[5][5];
-        for (int i = 0; i < 5; i++) {
-          influenceArray[i] = currInfluence[i].clone();
-        }
-        deck.add(new BasicSanguineCard(cardValue, cardCost, cardName, influenceArray, owner));
-      }
-    }
-
-    return deck;
+    return readDeck(filePath, owner);
   }
 
   /**
-   * Provides the reversed column index if it is the blue player's card being created,
-   * else it returns the same index. Helper method for creating influence grid.
+   * Creates a deck for the desired player using input from a file, as
+   * {@link #createDeck(String, Player)} does, for code that reads decks without a controller.
+   * The file may also be a deck compiled by {@link CompiledDeck#compile(Path, Path)}, whose cards
+   * are mapped rather than parsed. Decks are kept in a {@link DeckRepository} shared by every
+   * controller, so a file is read again only if it has changed. Each call returns a new list the
+   * caller may change, holding the same shared cards, which can't be changed. A file that can't be
+   * read gives an empty deck.
    *
-   * @param col   the column index.
-   * @param owner the owner of the element being placed.
-   * @return the accurate column depending on whom the player is.
+   * @param filePath the String path to the deck of cards for the player.
+   * @param owner    the owner of the cards to be made.
+   * @return a List of all the cards in the deck for the player.
+   * @throws DeckFormatException if the file does not follow the deck format.
    */
-  private int accurateColumn(int col, Player owner) {
-    if (!(owner == Player.RED)) {
-      return 5 - col - 1;
+  public static List<SanguineCard> readDeck(String filePath, Player owner) {
+    try {
+      return new ArrayList<>(DECKS.getDeck(FileReader.toPath(filePath), owner));
+    } catch (NoSuchFileException e) {
+      System.out.println("File not found.");
+    } catch (IOException e) {
+      e.printStackTrace();
     }
-    return col;
+    return new ArrayList<>();
   }
 
   @Override
@@ -112,6 +95,7 @@ public class BasicSanguineController implements SanguineController, FeaturesList
       throw new IllegalArgumentException("Model can't be null");
     }
     this.model = model;
+    this.gameOver = false;
 
     this.model.subscribe(this);
     view.subscribe(this);
@@ -173,7 +157,6 @@ public class BasicSanguineController implements SanguineController, FeaturesList
         model.switchPlayer();
       } catch (IllegalArgumentException | IllegalStateException e) {
         view.showMessage(e.getMessage(), "Error");
-      } catch (ConcurrentModificationException e) {
       }
     } else if (selectedCell == null || selectedCard == -1) {
       view.showMessage("Select a cell and card", "Invalid selection");
@@ -186,13 +169,15 @@ public class BasicSanguineController implements SanguineController, FeaturesList
       return;
     }
 
-    try {
-      System.out.println("Key press: PASS");
-      selectedCell = null;
-      selectedCard = -1;
-      model.switchPlayer();
-    } catch (ConcurrentModificationException e) {
-    }
+    System.out.println("Key press: PASS");
+    selectedCell = null;
+    selectedCard = -1;
+    model.switchPlayer();
+  }
+
+  @Override
+  public void onClose() {
+    player.cancel();
   }
 
   @Override
@@ -201,26 +186,48 @@ public class BasicSanguineController implements SanguineController, FeaturesList
     view.refreshDeck((ReadOnlySanguineModel) model, selectedCard);
   }
 
+  /**
+   * Schedules this controller's player's turn if the turn switched to them. The turn runs once
+   * the turn that switched to it has returned, so games between machine players don't nest
+   * every turn inside the one before it.
+   *
+   * @param player the new current player.
+   */
   @Override
   public void onTurnSwitch(Player player) {
-    if (model.getCurrPlayer() == this.playerColor) {
-      try {
-        model.drawCard();
-      } catch (IllegalStateException e) {
-      } catch (ConcurrentModificationException e) {
-      }
+    TurnScheduler.schedule(this::takeTurn);
+  }
 
-      refreshAll();
-      this.player.notifyTurn((ReadOnlySanguineModel) model);
+  /**
+   * Draws a card for this controller's player and lets them play, if it is still their turn,
+   * and ends the game once their turn leaves it over. If it is the opponent's turn, lets the
+   * player think while waiting.
+   */
+  private void takeTurn() {
+    if (gameOver) {
+      return;
+    }
+    if (model.getCurrPlayer() != this.playerColor) {
+      this.player.notifyOpponentTurn((ReadOnlySanguineModel) model);
+      return;
+    }
+    try {
+      model.drawCard();
+    } catch (IllegalStateException e) {
+    }
 
-      if (model.isGameOver()) {
-        model.endGame();
-      }
+    refreshAll();
+    this.player.notifyTurn((ReadOnlySanguineModel) model);
+
+    if (!gameOver && model.isGameOver()) {
+      model.endGame();
     }
   }
 
   @Override
   public void onGameOver() {
+    gameOver = true;
+    player.cancel();
     Player winner = model.getWinner();
     if (winner == null) {
       view.showMessage("Game over. Result: TIE", "Game Over");
@@ -0,0 +1,57 @@
+package sanguine.controller;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Runs turns one after another from a queue instead of inside each other. A turn scheduled while
+ * another turn is running on the same thread waits until that turn returns, so a game between
+ * machine players, where every move switches the turn and so starts the next one, runs with a
+ * stack of constant depth and no listener is called again while it is still running. Each thread
+ * has its own queue, so games on different threads don't wait for each other.
+ */
+final class TurnScheduler {
+  private static final ThreadLocal<TurnScheduler> CURRENT =
+      ThreadLocal.withInitial(TurnScheduler::new);
+
+  private final Deque<Runnable> queue;
+  //whether turns are being run on this thread, by a call further up the stack.
+  private boolean running;
+
+  private TurnScheduler() {
+    this.queue = new ArrayDeque<>();
+    this.running = false;
+  }
+
+  /**
+   * Runs a turn on the calling thread, right away if no turn is running, or else once every
+   * turn scheduled before it has returned.
+   *
+   * @param turn the turn to run.
+   * @throws IllegalArgumentException if the turn is null.
+   */
+  static void schedule(Runnable turn) {
+    if (turn == null) {
+      throw new IllegalArgumentException("Turn can't be null");
+    }
+    CURRENT.get().run(turn);
+  }
+
+  private void run(Runnable turn) {
+    queue.addLast(turn);
+    if (running) {
+      return;
+    }
+    running = true;
+    try {
+      Runnable next;
+      while ((next = queue.pollFirst()) != null) {
+        next.run();
+      }
+    } finally {
+      //turns after one that failed belong to a game that can't continue
+      queue.clear();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package sanguine.metrics;
+
+import java.util.List;
+import sanguine.model.BoardSnapshot;
+import sanguine.model.Influence;
+import sanguine.model.ModelListener;
+import sanguine.model.Player;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineElement;
+import sanguine.model.SanguineModel;
+import sanguine.strategy.Move;
+
+/**
+ * Implements the SanguineModel interface with another model, telling a metrics listener how long
+ * the operations that change the game take: placing a card, switching players, and applying and
+ * taking back moves. Operations that throw are not measured. Switching players includes the time
+ * of the model's listeners, which may play the next turn.
+ */
+public class InstrumentedSanguineModel implements SanguineModel {
+  private final SanguineModel delegate;
+  private final MetricsListener listener;
+
+  /**
+   * Creates a model measuring another.
+   *
+   * @param delegate the model holding the game.
+   * @param listener the listener receiving the measurements.
+   * @throws IllegalArgumentException if the model or listener is null.
+   */
+  public InstrumentedSanguineModel(SanguineModel delegate, MetricsListener listener) {
+    if (delegate == null || listener == null) {
+      throw new IllegalArgumentException("Model and listener can't be null");
+    }
+    this.delegate = delegate;
+    this.listener = listener;
+  }
+
+  @Override
+  public boolean isValidDeck(List<SanguineCard> deck) {
+    return delegate.isValidDeck(deck);
+  }
+
+  @Override
+  public void configureGame(int numHands, List<SanguineCard> redDeck,
+                            List<SanguineCard> blueDeck, boolean shuffle) {
+    delegate.configureGame(numHands, redDeck, blueDeck, shuffle);
+  }
+
+  @Override
+  public void startGame() {
+    delegate.startGame();
+  }
+
+  @Override
+  public void placeCard(int handIndex, int row, int col) {
+    long start = System.nanoTime();
+    delegate.placeCard(handIndex, row, col);
+    listener.onModelOperation("placeCard", System.nanoTime() - start);
+  }
+
+  @Override
+  public void applyInfluence(Influence infl, int row, int col) {
+    delegate.applyInfluence(infl, row, col);
+  }
+
+  @Override
+  public void drawCard() {
+    delegate.drawCard();
+  }
+
+  @Override
+  public void switchPlayer() {
+    long start = System.nanoTime();
+    delegate.switchPlayer();
+    listener.onModelOperation("switchPlayer", System.nanoTime() - start);
+  }
+
+  @Override
+  public void applyMove(Move move) {
+    long start = System.nanoTime();
+    delegate.applyMove(move);
+    listener.onModelOperation("applyMove", System.nanoTime() - start);
+  }
+
+  @Override
+  public void undoMove() {
+    long start = System.nanoTime();
+    delegate.undoMove();
+    listener.onModelOperation("undoMove", System.nanoTime() - start);
+  }
+
+  @Override
+  public void subscribe(ModelListener modelListener) {
+    delegate.subscribe(modelListener);
+  }
+
+  @Override
+  public void endGame() {
+    delegate.endGame();
+  }
+
+  @Override
+  public SanguineElement[][] getBoard() {
+    return delegate.getBoard();
+  }
+
+  @Override
+  public BoardSnapshot getSnapshot() {
+    return delegate.getSnapshot();
+  }
+
+  @Override
+  public SanguineElement getElementAt(int row, int col) {
+    return delegate.getElementAt(row, col);
+  }
+
+  @Override
+  public int getNumHands() {
+    return delegate.getNumHands();
+  }
+
+  @Override
+  public int sumOfVals(int row, Player player) {
+    return delegate.sumOfVals(row, player);
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return delegate.isGameOver();
+  }
+
+  @Override
+  public Player getWinner() {
+    return delegate.getWinner();
+  }
+
+  @Override
+  public List<SanguineCard> getHands(Player player) {
+    return delegate.getHands(player);
+  }
+
+  @Override
+  public List<SanguineCard> getDeck(Player player) {
+    return delegate.getDeck(player);
+  }
+
+  @Override
+  public int getScore(Player player) {
+    return delegate.getScore(player);
+  }
+
+  @Override
+  public int getNumRows() {
+    return delegate.getNumRows();
+  }
+
+  @Override
+  public int getNumColumns() {
+    return delegate.getNumColumns();
+  }
+
+  @Override
+  public Player getCurrPlayer() {
+    return delegate.getCurrPlayer();
+  }
+
+  @Override
+  public boolean canBePlaced(SanguineCard card, SanguineElement elem) {
+    return delegate.canBePlaced(card, elem);
+  }
+
+  @Override
+  public List<Move> getLegalMoves(Player player) {
+    return delegate.getLegalMoves(player);
+  }
+
+  @Override
+  public long getPositionHash() {
+    return delegate.getPositionHash();
+  }
+
+  @Override
+  public int getTurnsWithoutChange() {
+    return delegate.getTurnsWithoutChange();
+  }
+}
@@ -0,0 +1,68 @@
+package sanguine.metrics;
+
+import java.util.List;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.strategy.MeasuredStrategy;
+import sanguine.strategy.Move;
+import sanguine.strategy.PonderingStrategy;
+import sanguine.strategy.SanguineStrategy;
+import sanguine.strategy.SearchStatistics;
+
+/**
+ * Plays like another strategy and tells a metrics listener how long each of its decisions took,
+ * along with the search statistics of the other strategy if it reports them. Only calls made on
+ * the player's turn in an unfinished game are measured. It ponders if the other strategy can.
+ */
+public class InstrumentedStrategy implements PonderingStrategy, MeasuredStrategy {
+  private final String name;
+  private final SanguineStrategy delegate;
+  private final MetricsListener listener;
+
+  /**
+   * Creates a strategy measuring another.
+   *
+   * @param name     the name the measurements are reported under.
+   * @param delegate the strategy choosing the moves.
+   * @param listener the listener receiving the measurements.
+   * @throws IllegalArgumentException if any argument is null.
+   */
+  public InstrumentedStrategy(String name, SanguineStrategy delegate, MetricsListener listener) {
+    if (name == null || delegate == null || listener == null) {
+      throw new IllegalArgumentException("Name, strategy and listener can't be null");
+    }
+    this.name = name;
+    this.delegate = delegate;
+    this.listener = listener;
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player) {
+    if (model.getCurrPlayer() != player || model.isGameOver()) {
+      return delegate.chooseMoves(model, player);
+    }
+    long start = System.nanoTime();
+    List<Move> moves = delegate.chooseMoves(model, player);
+    listener.onDecision(name, System.nanoTime() - start, getLastStatistics());
+    return moves;
+  }
+
+  @Override
+  public SearchStatistics getLastStatistics() {
+    return delegate instanceof MeasuredStrategy measured ? measured.getLastStatistics() : null;
+  }
+
+  @Override
+  public void ponder(ReadOnlySanguineModel model, Player player) {
+    if (delegate instanceof PonderingStrategy pondering) {
+      pondering.ponder(model, player);
+    }
+  }
+
+  @Override
+  public void stopPondering() {
+    if (delegate instanceof PonderingStrategy pondering) {
+      pondering.stopPondering();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package sanguine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts durations in buckets whose bounds double from one bucket to the next, so that a fixed
+ * amount of memory covers everything from nanoseconds to hours with an error of at most a factor
+ * of two. Durations can be recorded from several threads at once.
+ */
+public final class LatencyHistogram {
+  //bucket i counts durations below 2^i nanoseconds and at least half of that.
+  private static final int NUM_BUCKETS = 64;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder totalNanos;
+  private final LongAccumulator maxNanos;
+
+  /**
+   * Creates an empty histogram.
+   */
+  public LatencyHistogram() {
+    this.buckets = new AtomicLongArray(NUM_BUCKETS);
+    this.count = new LongAdder();
+    this.totalNanos = new LongAdder();
+    this.maxNanos = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Counts a duration.
+   *
+   * @param nanos the duration, in nanoseconds. Negative durations count as 0.
+   */
+  public void record(long nanos) {
+    long duration = Math.max(0, nanos);
+    buckets.incrementAndGet(Math.min(NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(duration)));
+    count.increment();
+    totalNanos.add(duration);
+    maxNanos.accumulate(duration);
+  }
+
+  /**
+   * Returns the number of durations counted.
+   *
+   * @return the count.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the average of the durations counted.
+   *
+   * @return the mean, in nanoseconds, 0 if nothing was counted.
+   */
+  public double getMeanNanos() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) totalNanos.sum() / n;
+  }
+
+  /**
+   * Returns the longest duration counted.
+   *
+   * @return the maximum, in nanoseconds, 0 if nothing was counted.
+   */
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Returns a duration that the given share of the counted durations do not exceed, rounded up
+   * to the bound of its bucket but never above the maximum.
+   *
+   * @param fraction the share of durations, between 0 and 1, such as 0.99 for the 99th
+   *                 percentile.
+   * @return the percentile, in nanoseconds, 0 if nothing was counted.
+   * @throws IllegalArgumentException if the fraction is not between 0 and 1.
+   */
+  public long getPercentileNanos(double fraction) {
+    if (!(fraction >= 0 && fraction <= 1)) {
+      throw new IllegalArgumentException("Fraction must be between 0 and 1");
+    }
+    long[] counts = new long[NUM_BUCKETS];
+    long total = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(fraction * total));
+    long seen = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        long bound = i == 0 ? 0 : i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+        return Math.min(bound, getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+}
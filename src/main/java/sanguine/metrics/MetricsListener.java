@@ -0,0 +1,28 @@
+package sanguine.metrics;
+
+import sanguine.strategy.SearchStatistics;
+
+/**
+ * Receives measurements of how long players take to decide and how long the model takes to
+ * change, for example to record them or write them to a log. Measurements may arrive from
+ * several threads at once.
+ */
+public interface MetricsListener {
+
+  /**
+   * Reacts after a player or strategy chose a move.
+   *
+   * @param source     the name of the player or strategy that decided.
+   * @param nanos      the time the decision took, in nanoseconds.
+   * @param statistics what the strategy did to decide, or null if it does not report it.
+   */
+  void onDecision(String source, long nanos, SearchStatistics statistics);
+
+  /**
+   * Reacts after the model carried out an operation such as placing a card or switching players.
+   *
+   * @param operation the name of the operation.
+   * @param nanos     the time the operation took, in nanoseconds.
+   */
+  void onModelOperation(String operation, long nanos);
+}
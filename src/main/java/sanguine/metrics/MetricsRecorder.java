@@ -0,0 +1,164 @@
+package sanguine.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import sanguine.strategy.SearchStatistics;
+
+/**
+ * Keeps every measurement it is given: a latency histogram for each player or strategy and for
+ * each model operation, and the totals of the search statistics of each strategy. Its summary can
+ * be printed at any time, or periodically to follow a long tournament.
+ */
+public final class MetricsRecorder implements MetricsListener {
+  private final Map<String, LatencyHistogram> decisions;
+  private final Map<String, SearchTotals> searches;
+  private final Map<String, LatencyHistogram> operations;
+
+  /**
+   * Creates a recorder with no measurements.
+   */
+  public MetricsRecorder() {
+    this.decisions = new ConcurrentHashMap<>();
+    this.searches = new ConcurrentHashMap<>();
+    this.operations = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void onDecision(String source, long nanos, SearchStatistics statistics) {
+    decisions.computeIfAbsent(source, name -> new LatencyHistogram()).record(nanos);
+    if (statistics != null) {
+      searches.computeIfAbsent(source, name -> new SearchTotals()).add(statistics);
+    }
+  }
+
+  @Override
+  public void onModelOperation(String operation, long nanos) {
+    operations.computeIfAbsent(operation, name -> new LatencyHistogram()).record(nanos);
+  }
+
+  /**
+   * Returns the latencies of the decisions of a player or strategy.
+   *
+   * @param source the name of the player or strategy.
+   * @return its histogram, or null if it has not decided yet.
+   */
+  public LatencyHistogram getDecisionLatencies(String source) {
+    return decisions.get(source);
+  }
+
+  /**
+   * Returns the latencies of a model operation.
+   *
+   * @param operation the name of the operation.
+   * @return its histogram, or null if it has not been measured yet.
+   */
+  public LatencyHistogram getOperationLatencies(String operation) {
+    return operations.get(operation);
+  }
+
+  /**
+   * Returns the totals of the search statistics reported by a strategy.
+   *
+   * @param source the name of the strategy.
+   * @return the sums of its counts and times, or null if it has not reported any.
+   */
+  public SearchStatistics getSearchTotals(String source) {
+    SearchTotals totals = searches.get(source);
+    return totals == null ? null : totals.sum();
+  }
+
+  /**
+   * Describes every measurement so far, one line per player, strategy or operation, sorted by
+   * name: the number of measurements, the mean, 50th, 99th percentile and maximum latency, and
+   * for strategies reporting statistics the search speed, transposition table hit rate, cutoffs
+   * and playout rate.
+   *
+   * @return the text summary.
+   */
+  public String summary() {
+    StringBuilder out = new StringBuilder();
+    for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(decisions).entrySet()) {
+      out.append("decide ").append(entry.getKey()).append(": ")
+          .append(describe(entry.getValue()));
+      SearchStatistics totals = getSearchTotals(entry.getKey());
+      if (totals != null) {
+        out.append(String.format(", %.0f nodes/s, table hits %.1f%%, %d cutoffs, %.0f playouts/s",
+            totals.getNodesPerSecond(), 100 * totals.getTableHitRate(), totals.getCutoffs(),
+            totals.getPlayoutsPerSecond()));
+      }
+      out.append(System.lineSeparator());
+    }
+    for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(operations).entrySet()) {
+      out.append("model ").append(entry.getKey()).append(": ")
+          .append(describe(entry.getValue())).append(System.lineSeparator());
+    }
+    return out.toString();
+  }
+
+  /**
+   * Gives the summary to the output every period until the returned task is cancelled.
+   *
+   * @param scheduler    the executor running the reports.
+   * @param periodMillis the time between reports, in milliseconds.
+   * @param output       where to send each summary, for example {@code System.err::print}.
+   * @return the scheduled reports, to cancel them.
+   * @throws IllegalArgumentException if the scheduler or output is null or the period not
+   *                                  positive.
+   */
+  public ScheduledFuture<?> reportEvery(ScheduledExecutorService scheduler, long periodMillis,
+                                        Consumer<String> output) {
+    if (scheduler == null || output == null) {
+      throw new IllegalArgumentException("Scheduler and output can't be null");
+    }
+    if (periodMillis <= 0) {
+      throw new IllegalArgumentException("Period must be greater than 0");
+    }
+    return scheduler.scheduleAtFixedRate(() -> output.accept(summary()), periodMillis,
+        periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static String describe(LatencyHistogram histogram) {
+    return String.format("%d, mean %s, p50 %s, p99 %s, max %s", histogram.getCount(),
+        millis(histogram.getMeanNanos()), millis(histogram.getPercentileNanos(0.5)),
+        millis(histogram.getPercentileNanos(0.99)), millis(histogram.getMaxNanos()));
+  }
+
+  private static String millis(double nanos) {
+    return String.format("%.3fms", nanos / 1e6);
+  }
+
+  /**
+   * Sums the statistics of the searches of one strategy.
+   */
+  private static final class SearchTotals {
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder tableProbes = new LongAdder();
+    private final LongAdder tableHits = new LongAdder();
+    private final LongAdder cutoffs = new LongAdder();
+    private final LongAdder playouts = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    private void add(SearchStatistics statistics) {
+      nodes.add(statistics.getNodes());
+      tableProbes.add(statistics.getTableProbes());
+      tableHits.add(statistics.getTableHits());
+      cutoffs.add(statistics.getCutoffs());
+      playouts.add(statistics.getPlayouts());
+      elapsedNanos.add(statistics.getElapsedNanos());
+    }
+
+    private SearchStatistics sum() {
+      //an add running at the same time may be only partly counted
+      long hits = tableHits.sum();
+      long probes = Math.max(hits, tableProbes.sum());
+      return new SearchStatistics(nodes.sum(), probes, hits, cutoffs.sum(), playouts.sum(),
+          elapsedNanos.sum());
+    }
+  }
+}
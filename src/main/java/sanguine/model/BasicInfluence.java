@@ -4,7 +4,13 @@ package sanguine.model;
  * Holds values for Sanguine Card's influence details. Includes values for pawn increase and
  */
 public class BasicInfluence implements Influence {
-  private int numPawnIncrease;
+  /**
+   * The influence adding one pawn, the only one decks can give. It is immutable, so every card
+   * can share it.
+   */
+  public static final BasicInfluence ONE_PAWN = new BasicInfluence(1);
+
+  private final int numPawnIncrease;
 
   /**
    * Constructor for a BasicInfluence object.
@@ -5,14 +5,36 @@ import java.util.Arrays;
 /**
  * Represents a card from the game Sanguine, with a value, cost (the number of pawns required for
  * the card to be placed.
+ * The influence grid is kept as a 25-bit mask, whose bit {@code row * 5 + col} is set if the card
+ * influences that cell, and the pawn increase of each influenced cell only if some increase is not
+ * 1, so comparing, hashing and mirroring cards are bit operations. The grid itself is only built
+ * if it is asked for.
  */
 public class BasicSanguineCard implements SanguineCard {
+  /**
+   * The number of rows and columns of the influence grid of a card.
+   */
+  public static final int GRID_SIZE = 5;
+  private static final int ROW_MASK = (1 << GRID_SIZE) - 1;
+  //each row of 5 bits, reversed.
+  private static final int[] REVERSED_ROWS = new int[1 << GRID_SIZE];
+
+  static {
+    for (int row = 0; row < REVERSED_ROWS.length; row++) {
+      REVERSED_ROWS[row] = Integer.reverse(row) >>> (Integer.SIZE - GRID_SIZE);
+    }
+  }
 
-  private int value;
-  private int cost;
-  private String name;
-  final Influence[][] influenceGrid;
-  private Player owner;
+  private final int value;
+  private final int cost;
+  private final String name;
+  private final int influenceMask;
+  //the pawn increase of each cell of the grid by index, or null if every influence adds 1 pawn.
+  private final int[] increases;
+  private final Player owner;
+  private final int hash;
+  //the influence grid, built on first use.
+  private volatile Influence[][] influenceGrid;
 
   /**
    * Constructor for a BasicSanguineCard.
@@ -24,14 +46,81 @@ public class BasicSanguineCard implements SanguineCard {
    * @param influenceGrid the grid locating where on the board elements can be mutated by this
    *                      card's influences.
    * @param owner         determines the owner of the card: red player or blue player.
+   * @throws IllegalArgumentException if the influence grid is not 5 by 5.
    */
   public BasicSanguineCard(int value, int cost, String name, Influence[][] influenceGrid,
                            Player owner) {
+    this(value, cost, name, maskOf(influenceGrid), increasesOf(influenceGrid), owner);
+  }
+
+  /**
+   * Constructor for a BasicSanguineCard whose influences each add one pawn.
+   *
+   * @param value         the value of the card.
+   * @param cost          the cost of the card.
+   * @param name          the String name of the card.
+   * @param influenceMask the cells the card influences, bit {@code row * 5 + col} for each.
+   * @param owner         determines the owner of the card: red player or blue player.
+   * @throws IllegalArgumentException if the mask has bits outside the 25 cells of the grid.
+   */
+  public BasicSanguineCard(int value, int cost, String name, int influenceMask, Player owner) {
+    this(value, cost, name, influenceMask, null, owner);
+    if (influenceMask >>> (GRID_SIZE * GRID_SIZE) != 0) {
+      throw new IllegalArgumentException("Influence mask has cells outside the grid");
+    }
+  }
+
+  private BasicSanguineCard(int value, int cost, String name, int influenceMask,
+                            int[] increases, Player owner) {
     this.value = value;
     this.cost = cost;
     this.name = name;
-    this.influenceGrid = influenceGrid;
+    this.influenceMask = influenceMask;
+    this.increases = increases;
     this.owner = owner;
+    this.hash = hashOf(value, cost, name, influenceMask, increases, owner);
+  }
+
+  private static int maskOf(Influence[][] grid) {
+    checkGrid(grid);
+    int mask = 0;
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int col = 0; col < GRID_SIZE; col++) {
+        if (grid[row][col] != null) {
+          mask |= 1 << (row * GRID_SIZE + col);
+        }
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the pawn increase of every cell of the grid, or null if every influence adds 1 pawn.
+   */
+  private static int[] increasesOf(Influence[][] grid) {
+    checkGrid(grid);
+    int[] increases = new int[GRID_SIZE * GRID_SIZE];
+    boolean allOne = true;
+    for (int row = 0; row < GRID_SIZE; row++) {
+      for (int col = 0; col < GRID_SIZE; col++) {
+        if (grid[row][col] != null) {
+          increases[row * GRID_SIZE + col] = grid[row][col].numPawnIncrease();
+          allOne &= increases[row * GRID_SIZE + col] == 1;
+        }
+      }
+    }
+    return allOne ? null : increases;
+  }
+
+  private static void checkGrid(Influence[][] grid) {
+    if (grid == null || grid.length != GRID_SIZE) {
+      throw new IllegalArgumentException("Influence grid must be 5 by 5");
+    }
+    for (Influence[] row : grid) {
+      if (row == null || row.length != GRID_SIZE) {
+        throw new IllegalArgumentException("Influence grid must be 5 by 5");
+      }
+    }
   }
 
   @Override
@@ -49,9 +138,75 @@ public class BasicSanguineCard implements SanguineCard {
     return name;
   }
 
+  /**
+   * Returns the influence grid of the card, built from its mask the first time it is asked for.
+   * Cells adding one pawn share {@link BasicInfluence#ONE_PAWN}.
+   */
   @Override
   public Influence[][] getInfluenceGrid() {
-    return influenceGrid;
+    Influence[][] grid = influenceGrid;
+    if (grid == null) {
+      grid = new Influence[GRID_SIZE][GRID_SIZE];
+      for (int bits = influenceMask; bits != 0; bits &= bits - 1) {
+        int cell = Integer.numberOfTrailingZeros(bits);
+        int increase = getPawnIncrease(cell);
+        grid[cell / GRID_SIZE][cell % GRID_SIZE] =
+            increase == 1 ? BasicInfluence.ONE_PAWN : new BasicInfluence(increase);
+      }
+      influenceGrid = grid;
+    }
+    return grid;
+  }
+
+  /**
+   * Returns the cells the card influences, as a 25-bit mask whose bit {@code row * 5 + col} is
+   * set for each influenced cell of the grid.
+   *
+   * @return the influence mask of the card.
+   */
+  public int getInfluenceMask() {
+    return influenceMask;
+  }
+
+  /**
+   * Returns the number of pawns the card adds to a cell of its influence grid.
+   *
+   * @param cell the index of the cell, {@code row * 5 + col}.
+   * @return the pawn increase of the cell, or 0 if the card does not influence it.
+   */
+  public int getPawnIncrease(int cell) {
+    return pawnIncrease(influenceMask, increases, cell);
+  }
+
+  private static int pawnIncrease(int influenceMask, int[] increases, int cell) {
+    if ((influenceMask >>> cell & 1) == 0) {
+      return 0;
+    }
+    return increases == null ? 1 : increases[cell];
+  }
+
+  /**
+   * Returns this card as the other side of the board plays it, with its influence grid mirrored
+   * left to right.
+   *
+   * @param owner the owner of the mirrored card.
+   * @return the mirrored card.
+   */
+  public BasicSanguineCard mirror(Player owner) {
+    int mask = 0;
+    for (int row = 0; row < GRID_SIZE; row++) {
+      int shift = row * GRID_SIZE;
+      mask |= REVERSED_ROWS[influenceMask >>> shift & ROW_MASK] << shift;
+    }
+    int[] mirrored = null;
+    if (increases != null) {
+      mirrored = new int[increases.length];
+      for (int cell = 0; cell < increases.length; cell++) {
+        int row = cell / GRID_SIZE;
+        mirrored[row * GRID_SIZE + GRID_SIZE - 1 - cell % GRID_SIZE] = increases[cell];
+      }
+    }
+    return new BasicSanguineCard(value, cost, name, mask, mirrored, owner);
   }
 
   @Override
@@ -66,8 +221,8 @@ public class BasicSanguineCard implements SanguineCard {
 
   @Override
   public SanguineCard getCopy() {
-    return new BasicSanguineCard(this.value, this.cost, this.name, this.influenceGrid,
-        this.owner);
+    return new BasicSanguineCard(this.value, this.cost, this.name, this.influenceMask,
+        this.increases, this.owner);
   }
 
   @Override
@@ -77,51 +232,45 @@ public class BasicSanguineCard implements SanguineCard {
 
   @Override
   public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Computes the hash code the card has always had, where the grid is hashed as
+   * {@link Arrays#deepHashCode(Object[])} hashes a grid of {@link BasicInfluence}, so that opening
+   * books built before keep finding their cards. It is static, since it runs in the constructor.
+   */
+  private static int hashOf(int value, int cost, String name, int influenceMask, int[] increases,
+                            Player owner) {
     //max cost hash is 21
-    int hashCost = this.owner.equals(Player.RED) ? 3 : 7;
-    int hashValue = this.owner.equals(Player.RED) ? 23 : 29;
-    return name.hashCode() + cost * hashCost + value * hashValue
-        + Arrays.deepHashCode(influenceGrid);
+    int hashCost = owner.equals(Player.RED) ? 3 : 7;
+    int hashValue = owner.equals(Player.RED) ? 23 : 29;
+    int gridHash = 1;
+    for (int row = 0; row < GRID_SIZE; row++) {
+      int rowHash = 1;
+      for (int col = 0; col < GRID_SIZE; col++) {
+        rowHash = 31 * rowHash + 31 * pawnIncrease(influenceMask, increases, row * GRID_SIZE + col);
+      }
+      gridHash = 31 * gridHash + rowHash;
+    }
+    return name.hashCode() + cost * hashCost + value * hashValue + gridHash;
   }
 
   @Override
   public boolean equals(Object obj) {
-
+    if (this == obj) {
+      return true;
+    }
     if (!(obj instanceof BasicSanguineCard)) {
       return false;
     }
     BasicSanguineCard other = (BasicSanguineCard) obj;
-
-    // Compare simple fields first
-    if (this.cost != other.cost
-        || this.value != other.value
-        || this.owner != other.getOwner()
-        || !this.name.equals(other.name)) {
-      return false;
-    }
-
-    // Compare influenceGrid element by element
-    if (this.influenceGrid.length != other.influenceGrid.length) {
-      return false;
-    }
-    for (int row = 0; row < this.influenceGrid.length; row++) {
-      if (this.influenceGrid[row].length != other.influenceGrid[row].length) {
-        return false;
-      }
-      for (int col = 0; col < this.influenceGrid[row].length; col++) {
-        Influence a = this.influenceGrid[row][col];
-        Influence b = other.influenceGrid[row][col];
-        if (a == null && b != null || a != null && b == null) {
-          return false;
-        }
-        if (a == null && b == null) {
-          continue;
-        }
-        if (!a.equals(b)) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return this.hash == other.hash
+        && this.influenceMask == other.influenceMask
+        && this.cost == other.cost
+        && this.value == other.value
+        && this.owner == other.owner
+        && Arrays.equals(this.increases, other.increases)
+        && this.name.equals(other.name);
   }
 }
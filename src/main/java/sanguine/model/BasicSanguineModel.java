@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import sanguine.strategy.Move;
 
 /**
  * Implementation of the Sanguine model interface. Includes methods for Sanguine gameplay.
@@ -13,17 +15,31 @@ public class BasicSanguineModel implements SanguineModel {
   private List<SanguineCard> redDeck;
   private List<SanguineCard> blueDeck;
   //INVARIANT: the number of rows of the board is always positive and the number of columns odd.
-  private final SanguineElement[][] board;
+  private final PackedBoard board;
   private List<SanguineCard> redHand;
   private List<SanguineCard> blueHand;
   private Player currPlayer;
-  //The board a turn before the current.
-  private SanguineElement[][] prevBoard;
+  //The sums of the Zobrist keys of the cards in each player's hand.
+  private long redHandHash;
+  private long blueHandHash;
+  //The modification count of the board when the current turn started.
+  private long turnStartModCount;
+  //The moves played with applyMove that can still be taken back.
+  private final UndoStack history;
+  //Gives every distinct card used in this game an int id.
+  private final CardRegistry registry;
+  //Checks decks against the size of this board.
+  private final DeckValidator validator;
+  //The influence grids of the cards placed so far compiled for this board's size, by card id.
+  private InfluenceKernel[] kernels;
   //The number of times the board has remained the same while the turn has changed
   private int noChangeCount;
   private final int numRows;
   private final int numCols;
   private int numHands;
+  //Shuffles the decks when the game is configured with shuffling.
+  private final Random random;
+  //Notified from a copy, so listeners may subscribe others while being notified.
   private final List<ModelListener> listeners;
 
   /**
@@ -33,6 +49,22 @@ public class BasicSanguineModel implements SanguineModel {
    * @param numCols the number of columns the board will have.
    */
   public BasicSanguineModel(int numRows, int numCols) {
+    this(numRows, numCols, new Random());
+  }
+
+  /**
+   * Constructs a BasicSanguineModel object that shuffles decks with the given source of
+   * randomness, so that games configured with shuffling can be replayed from a seed.
+   *
+   * @param numRows the number of rows the board will have.
+   * @param numCols the number of columns the board will have.
+   * @param random  the source of randomness used to shuffle the decks.
+   * @throws IllegalArgumentException if the size of the board is invalid or random is null.
+   */
+  public BasicSanguineModel(int numRows, int numCols, Random random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random can't be null");
+    }
     //INVARIANT: the number of rows of the board is always positive and the number of columns odd.
     if (numRows <= 0) {
       throw new IllegalArgumentException("Number of rows must be greater than 0");
@@ -42,37 +74,71 @@ public class BasicSanguineModel implements SanguineModel {
     }
     this.numRows = numRows;
     this.numCols = numCols;
-    this.board = new SanguineElement[numRows][numCols];
+    this.registry = new CardRegistry();
+    this.validator = new DeckValidator(numRows, numCols);
+    this.board = new PackedBoard(numRows, numCols, registry);
     for (int i = 0; i < numRows; i++) {
-      board[i][0] = new BasicSanguinePawnCluster(PawnClusterSize.ONE, Player.RED);
-      board[i][numCols - 1] = new BasicSanguinePawnCluster(PawnClusterSize.ONE, Player.BLUE);
+      board.set(i, 0, PackedBoard.encodePawns(1, Player.RED));
+      board.set(i, numCols - 1, PackedBoard.encodePawns(1, Player.BLUE));
     }
-    prevBoard = getBoard();
+    turnStartModCount = board.getModCount();
+    this.history = new UndoStack();
+    this.kernels = new InfluenceKernel[16];
+    this.random = random;
     this.listeners = new ArrayList<>();
   }
 
-  @Override
-  public boolean isValidDeck(List<SanguineCard> deck) {
-
-    if (deck.size() < getNumColumns() * getNumRows()) {
-      return false;
-    }
-    int copyCount = 0;
-    for (int comparingCardIndex = 0; comparingCardIndex < deck.size(); comparingCardIndex++) {
-      for (SanguineCard sanguineCard : deck) {
-        if (deck.get(comparingCardIndex) == null || sanguineCard == null) {
-          return false;
-        }
-        if (deck.get(comparingCardIndex).equals(sanguineCard)) {
-          copyCount++;
-        }
-        if (copyCount > 2) {
-          return false;
+  /**
+   * Constructs a BasicSanguineModel holding a copy of the current state of the given game: its
+   * board, hands, decks, current player and count of turns without changes. Moves can be played on
+   * the copy, for example by a strategy searching ahead, without affecting the original game.
+   * Listeners are not copied.
+   *
+   * @param model the configured game to copy.
+   * @throws IllegalArgumentException if the model is null.
+   */
+  public BasicSanguineModel(ReadOnlySanguineModel model) {
+    this(checkNotNull(model).getNumRows(), model.getNumColumns());
+    BoardSnapshot snapshot = model.getSnapshot();
+    for (int row = 0; row < numRows; row++) {
+      for (int col = 0; col < numCols; col++) {
+        SanguineCard card = snapshot.getCard(row, col);
+        if (card != null) {
+          board.set(row, col, PackedBoard.encodeCard(registry.intern(card), card.getOwner()));
+        } else if (snapshot.isEmpty(row, col)) {
+          board.set(row, col, PackedBoard.EMPTY);
+        } else {
+          board.set(row, col, PackedBoard.encodePawns(snapshot.getNumPawns(row, col),
+              snapshot.getOwner(row, col)));
         }
       }
-      copyCount = 0;
     }
-    return true;
+    this.numHands = model.getNumHands();
+    this.currPlayer = model.getCurrPlayer();
+    this.noChangeCount = model.getTurnsWithoutChange();
+    this.redHand = model.getHands(Player.RED);
+    this.blueHand = model.getHands(Player.BLUE);
+    this.redDeck = model.getDeck(Player.RED);
+    this.blueDeck = model.getDeck(Player.BLUE);
+    for (SanguineCard card : this.redHand) {
+      redHandHash += ZobristKeys.handKey(card, Player.RED);
+    }
+    for (SanguineCard card : this.blueHand) {
+      blueHandHash += ZobristKeys.handKey(card, Player.BLUE);
+    }
+    turnStartModCount = board.getModCount();
+  }
+
+  private static ReadOnlySanguineModel checkNotNull(ReadOnlySanguineModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model can't be null");
+    }
+    return model;
+  }
+
+  @Override
+  public boolean isValidDeck(List<SanguineCard> deck) {
+    return validator.validate(deck).isValid();
   }
 
   @Override
@@ -85,8 +151,8 @@ public class BasicSanguineModel implements SanguineModel {
     this.blueDeck = new ArrayList<>(blueDeck);
 
     if (shuffle) {
-      Collections.shuffle(this.redDeck);
-      Collections.shuffle(this.blueDeck);
+      Collections.shuffle(this.redDeck, random);
+      Collections.shuffle(this.blueDeck, random);
     }
 
     if (!(isValidDeck(redDeck)
@@ -99,32 +165,47 @@ public class BasicSanguineModel implements SanguineModel {
     this.blueHand = new ArrayList<>(this.blueDeck.subList(0, numHands));
     this.redDeck = new ArrayList<>(this.redDeck.subList(numHands, redDeck.size()));
     this.blueDeck = new ArrayList<>(this.blueDeck.subList(numHands, blueDeck.size()));
+    this.redHandHash = 0;
+    this.blueHandHash = 0;
+    for (SanguineCard card : this.redHand) {
+      redHandHash += ZobristKeys.handKey(card, Player.RED);
+    }
+    for (SanguineCard card : this.blueHand) {
+      blueHandHash += ZobristKeys.handKey(card, Player.BLUE);
+    }
   }
 
   @Override
   public void startGame() {
-    for (ModelListener listener : listeners) {
+    for (ModelListener listener : List.copyOf(listeners)) {
       listener.onTurnSwitch(currPlayer);
     }
   }
 
   @Override
   public SanguineElement[][] getBoard() {
-    SanguineElement[][] copyBoard = new SanguineElement[this.board.length][this.board[0].length];
-    for (int row = 0; row < this.board.length; row++) {
-      for (int col = 0; col < this.board[0].length; col++) {
-        if (this.board[row][col] == null) {
-          copyBoard[row][col] = null;
-        } else {
-          //INVARIANT: the number of rows of the board is always positive and the number of columns
-          //odd.
-          copyBoard[row][col] = this.board[row][col].getCopy();
-        }
+    SanguineElement[][] copyBoard = new SanguineElement[numRows][numCols];
+    for (int row = 0; row < numRows; row++) {
+      for (int col = 0; col < numCols; col++) {
+        copyBoard[row][col] = board.toElement(board.get(row, col));
       }
     }
     return copyBoard;
   }
 
+  @Override
+  public BoardSnapshot getSnapshot() {
+    return board.snapshot();
+  }
+
+  @Override
+  public SanguineElement getElementAt(int row, int col) {
+    if (row < 0 || col < 0 || row >= numRows || col >= numCols) {
+      throw new IllegalArgumentException("Invalid row/col");
+    }
+    return board.toElement(board.get(row, col));
+  }
+
   @Override
   public int getNumHands() {
     return numHands;
@@ -132,14 +213,7 @@ public class BasicSanguineModel implements SanguineModel {
 
   @Override
   public int sumOfVals(int row, Player player) {
-    int sum = 0;
-    for (int col = 0; col < this.board[row].length; col++) {
-      if (board[row][col] != null && board[row][col] instanceof BasicSanguineCard
-          && board[row][col].getOwner().equals(player)) {
-        sum += ((BasicSanguineCard) board[row][col]).getValue();
-      }
-    }
-    return sum;
+    return board.rowScore(row, player);
   }
 
   @Override
@@ -151,11 +225,9 @@ public class BasicSanguineModel implements SanguineModel {
         && redHand.isEmpty() && blueHand.isEmpty())) {
       return false;
     }
-    for (SanguineElement[] sanguineElements : this.board) {
-      for (SanguineElement sanguineElement : sanguineElements) {
-        if (sanguineElement == null) {
-          return false;
-        }
+    for (int cell = 0; cell < numRows * numCols; cell++) {
+      if (board.get(cell) == PackedBoard.EMPTY) {
+        return false;
       }
     }
     return true;
@@ -184,41 +256,47 @@ public class BasicSanguineModel implements SanguineModel {
     if (handIndex > length - 1) {
       throw new IllegalArgumentException("Hand index out of bounds");
     }
-    if (row < 0 || col < 0 || row >= this.board.length || col >= this.board[0].length) {
+    if (row < 0 || col < 0 || row >= numRows || col >= numCols) {
       throw new IllegalArgumentException("Invalid row/col");
     }
     SanguineCard card =
         this.currPlayer == Player.RED ? redHand.get(handIndex) : blueHand.get(handIndex);
-    if (canBePlaced(card, this.board[row][col])) {
-      this.board[row][col] = card;
+    if (canBePlaced(card, board.get(row, col))) {
+      board.set(row, col, PackedBoard.encodeCard(registry.intern(card), card.getOwner()));
       if (this.currPlayer == Player.RED) {
         redHand.remove(handIndex);
+        redHandHash -= ZobristKeys.handKey(card, Player.RED);
       } else {
         blueHand.remove(handIndex);
+        blueHandHash -= ZobristKeys.handKey(card, Player.BLUE);
       }
     } else {
       throw new IllegalStateException("Card placement is not legal.");
     }
-    //traverse board and see which any influences on influence grid fall on the board
-    //influence grid places card at row 2 column 2 on the 5x5 grid (index)
-    int rowOffset = 2 - row;
-    int colOffset = 2 - col;
-    for (int boardRow = 0; boardRow < this.board.length; boardRow++) {
-      for (int boardCol = 0; boardCol < this.board[0].length; boardCol++) {
-        if (!(boardRow == row && boardCol == col)) { //skip card being placed
-          if (boardRow + rowOffset >= 0 && boardRow + rowOffset < card.getInfluenceGrid().length
-              && boardCol + colOffset >= 0
-              && boardCol + colOffset < card.getInfluenceGrid()[0].length) {
-            Influence infl = card.getInfluenceGrid()[boardRow + rowOffset][boardCol + colOffset];
-            if (infl != null) {
-              applyInfluence(infl, boardRow, boardCol);
-            }
-          }
-        }
-      }
+    //only visit the cells of the board the card's influence grid falls on
+    int[] targets = kernelOf(PackedBoard.cardId(board.get(row, col))).targets(row, col);
+    for (int i = 0; i < targets.length; i += 2) {
+      applyIncrease(targets[i], targets[i + 1]);
     }
   }
 
+  /**
+   * Returns the compiled influence grid of the registered card with the given id, compiling it the
+   * first time it is needed.
+   *
+   * @param cardId the id of the card in this model's registry.
+   * @return the influence kernel of the card for this board.
+   */
+  private InfluenceKernel kernelOf(int cardId) {
+    if (cardId >= kernels.length) {
+      kernels = Arrays.copyOf(kernels, Math.max(cardId + 1, kernels.length * 2));
+    }
+    if (kernels[cardId] == null) {
+      kernels[cardId] = new InfluenceKernel(registry.getCard(cardId), numRows, numCols);
+    }
+    return kernels[cardId];
+  }
+
   @Override
   public boolean canBePlaced(SanguineCard card, SanguineElement el) {
     if (el instanceof SanguineCard) {
@@ -231,17 +309,63 @@ public class BasicSanguineModel implements SanguineModel {
     return card.getCost() == 0;
   }
 
+  /**
+   * Determines if the card can be placed on the encoded cell. Mirrors
+   * {@link #canBePlaced(SanguineCard, SanguineElement)} without materializing the element.
+   *
+   * @param card the card to be placed.
+   * @param cell the encoded cell the card may replace.
+   * @return true if the card can be placed and false if it cannot.
+   */
+  private boolean canBePlaced(SanguineCard card, int cell) {
+    if (PackedBoard.isCard(cell)) {
+      return false;
+    }
+    if (cell != PackedBoard.EMPTY) {
+      return PackedBoard.pawns(cell) >= card.getCost()
+          && card.getOwner() == PackedBoard.owner(cell);
+    }
+    return card.getCost() == 0;
+  }
+
+  @Override
+  public List<Move> getLegalMoves(Player player) {
+    List<SanguineCard> hand = player == Player.RED ? redHand : blueHand;
+    List<Move> moves = new ArrayList<>();
+    if (hand == null) {
+      return moves;
+    }
+    long[] cells = new long[(numRows * numCols + 63) / 64];
+    for (int cardInd = 0; cardInd < hand.size(); cardInd++) {
+      SanguineCard card = hand.get(cardInd);
+      board.placeableCells(card.getOwner(), card.getCost(), cells);
+      for (int word = 0; word < cells.length; word++) {
+        long bits = cells[word];
+        while (bits != 0) {
+          int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+          moves.add(new Move(cardInd, index / numCols, index % numCols));
+          bits &= bits - 1;
+        }
+      }
+    }
+    return moves;
+  }
+
   @Override
   public void drawCard() {
     if (currPlayer == Player.RED) {
       if (!redDeck.isEmpty()) {
-        this.redHand.add(redDeck.removeFirst());
+        SanguineCard card = redDeck.removeFirst();
+        this.redHand.add(card);
+        redHandHash += ZobristKeys.handKey(card, Player.RED);
       } else {
         throw new IllegalStateException("Deck is empty");
       }
     } else {
       if (!blueDeck.isEmpty()) {
-        this.blueHand.add(blueDeck.removeFirst());
+        SanguineCard card = blueDeck.removeFirst();
+        this.blueHand.add(card);
+        blueHandHash += ZobristKeys.handKey(card, Player.BLUE);
       } else {
         throw new IllegalStateException("Deck is empty");
       }
@@ -260,16 +384,23 @@ public class BasicSanguineModel implements SanguineModel {
 
   @Override
   public int getScore(Player player) {
-    int sum = 0;
-    for (int row = 0; row < this.board.length; row++) {
-      sum += sumOfVals(row, player);
-    }
-    return sum;
+    return board.totalScore(player);
   }
 
   @Override
   public void switchPlayer() throws IllegalStateException {
-    if (Arrays.deepToString(prevBoard).equals(Arrays.deepToString(board))) {
+    advanceTurn();
+    for (ModelListener listener : List.copyOf(listeners)) {
+      listener.onTurnSwitch(currPlayer);
+    }
+  }
+
+  /**
+   * Ends the current turn: counts it if the board did not change and gives the turn to the other
+   * player. Does not notify listeners.
+   */
+  private void advanceTurn() {
+    if (board.getModCount() == turnStartModCount) {
       noChangeCount++;
     } else {
       //ensure once 2 turns skipped it stays above 2.
@@ -278,12 +409,70 @@ public class BasicSanguineModel implements SanguineModel {
       }
     }
     currPlayer = this.currPlayer == Player.RED ? Player.BLUE : Player.RED;
-    prevBoard = getBoard();
-    for (ModelListener listener : listeners) {
-      listener.onTurnSwitch(currPlayer);
+    turnStartModCount = board.getModCount();
+  }
+
+  @Override
+  public void applyMove(Move move) throws IllegalArgumentException, IllegalStateException {
+    if (move == null) {
+      throw new IllegalArgumentException("Move can't be null");
+    }
+    board.setRecording(true);
+    history.push(board.getJournalSize(), noChangeCount,
+        (int) (board.getModCount() - turnStartModCount));
+    if (!move.isPass()) {
+      List<SanguineCard> hand = currPlayer == Player.RED ? redHand : blueHand;
+      SanguineCard card = move.getCardInd() < hand.size() ? hand.get(move.getCardInd()) : null;
+      try {
+        placeCard(move.getCardInd(), move.getRow(), move.getCol());
+      } catch (RuntimeException e) {
+        history.pop();
+        board.setRecording(!history.isEmpty());
+        throw e;
+      }
+      history.setPlaced(move.getCardInd(), card);
+    }
+    advanceTurn();
+    if (!(currPlayer == Player.RED ? redDeck : blueDeck).isEmpty()) {
+      drawCard();
+      history.setDrew();
     }
   }
 
+  @Override
+  public void undoMove() throws IllegalStateException {
+    if (history.isEmpty()) {
+      throw new IllegalStateException("No move to undo");
+    }
+    if (history.drew()) {
+      if (currPlayer == Player.RED) {
+        SanguineCard card = redHand.removeLast();
+        redDeck.addFirst(card);
+        redHandHash -= ZobristKeys.handKey(card, Player.RED);
+      } else {
+        SanguineCard card = blueHand.removeLast();
+        blueDeck.addFirst(card);
+        blueHandHash -= ZobristKeys.handKey(card, Player.BLUE);
+      }
+    }
+    currPlayer = this.currPlayer == Player.RED ? Player.BLUE : Player.RED;
+    noChangeCount = history.noChangeCount();
+    board.rollback(history.journalSize());
+    turnStartModCount = board.getModCount() - history.turnModDelta();
+    if (history.handIndex() >= 0) {
+      SanguineCard card = history.placedCard();
+      if (currPlayer == Player.RED) {
+        redHand.add(history.handIndex(), card);
+        redHandHash += ZobristKeys.handKey(card, Player.RED);
+      } else {
+        blueHand.add(history.handIndex(), card);
+        blueHandHash += ZobristKeys.handKey(card, Player.BLUE);
+      }
+    }
+    history.pop();
+    board.setRecording(!history.isEmpty());
+  }
+
   @Override
   public void subscribe(ModelListener listener) {
     this.listeners.add(listener);
@@ -291,7 +480,7 @@ public class BasicSanguineModel implements SanguineModel {
 
   @Override
   public void endGame() {
-    for (ModelListener listener : this.listeners) {
+    for (ModelListener listener : List.copyOf(listeners)) {
       listener.onGameOver();
     }
   }
@@ -308,26 +497,30 @@ public class BasicSanguineModel implements SanguineModel {
 
   @Override
   public void applyInfluence(Influence infl, int row, int col) {
-    if (this.board[row][col] == null) {
-      PawnClusterSize size;
-      if (infl.numPawnIncrease() == 1) {
-        size = PawnClusterSize.ONE;
-      } else if (infl.numPawnIncrease() == 2) {
-        size = PawnClusterSize.TWO;
-      } else if (infl.numPawnIncrease() >= 3) {
-        size = PawnClusterSize.THREE;
-      } else {
-        return;
+    applyIncrease(board.index(row, col), infl.numPawnIncrease());
+  }
+
+  /**
+   * Applies an influence with the given pawn increase to the cell at the flat index, as
+   * described in {@link #applyInfluence(Influence, int, int)}.
+   *
+   * @param index    the flat index of the cell.
+   * @param increase the number of pawns the influence adds.
+   */
+  private void applyIncrease(int index, int increase) {
+    int cell = board.get(index);
+    if (cell == PackedBoard.EMPTY) {
+      if (increase > 0) {
+        board.set(index, PackedBoard.encodePawns(increase, currPlayer));
       }
-      this.board[row][col] = new BasicSanguinePawnCluster(size, currPlayer);
-    } else {
-      if (this.board[row][col] instanceof BasicSanguinePawnCluster) {
-        if (((BasicSanguinePawnCluster) this.board[row][col]).getNumPawns()
-            + infl.numPawnIncrease() < 0) {
-          this.board[row][col] = null;
-        } else {
-          this.board[row][col].applyInfluence(infl, currPlayer);
-        }
+    } else if (!PackedBoard.isCard(cell)) {
+      int numPawns = PackedBoard.pawns(cell);
+      if (numPawns + increase < 0) {
+        board.set(index, PackedBoard.EMPTY);
+      } else if (PackedBoard.owner(cell) != currPlayer) {
+        board.set(index, PackedBoard.encodePawns(numPawns, currPlayer));
+      } else {
+        board.set(index, PackedBoard.encodePawns(numPawns + increase, currPlayer));
       }
     }
   }
@@ -337,4 +530,15 @@ public class BasicSanguineModel implements SanguineModel {
   public Player getCurrPlayer() {
     return currPlayer;
   }
+
+  @Override
+  public long getPositionHash() {
+    long hash = board.getHash() ^ redHandHash ^ Long.rotateLeft(blueHandHash, 32);
+    return currPlayer == Player.BLUE ? hash ^ ZobristKeys.SIDE_TO_MOVE : hash;
+  }
+
+  @Override
+  public int getTurnsWithoutChange() {
+    return noChangeCount;
+  }
 }
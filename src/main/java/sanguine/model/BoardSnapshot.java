@@ -0,0 +1,144 @@
+package sanguine.model;
+
+/**
+ * An immutable view of a Sanguine board at one moment of the game. Snapshots are cheap to take
+ * and safe to hold and share between readers and threads: the model hands out the same snapshot
+ * until the board changes, and a new snapshot shares every row that did not change with the
+ * previous one, so cells are never copied on access.
+ */
+public final class BoardSnapshot {
+  private final int numRows;
+  private final int numCols;
+  //encoded cells by row, never mutated once the snapshot is created.
+  private final int[][] rows;
+  //resolves the ids of the cards on the board. Registries only grow, so ids stay valid.
+  private final CardRegistry registry;
+
+  /**
+   * Creates a snapshot over the given encoded rows, which must not be mutated afterward.
+   *
+   * @param numCols  the number of columns of the board.
+   * @param rows     the encoded cells of every row.
+   * @param registry the registry of the cards on the board.
+   */
+  BoardSnapshot(int numCols, int[][] rows, CardRegistry registry) {
+    this.numRows = rows.length;
+    this.numCols = numCols;
+    this.rows = rows;
+    this.registry = registry;
+  }
+
+  /**
+   * Creates a snapshot holding the given board. Meant for implementations of
+   * ReadOnlySanguineModel that do not store their board in a BasicSanguineModel.
+   *
+   * @param board the board, with null for empty cells. Must have at least one row.
+   * @return a snapshot of the board.
+   * @throws IllegalArgumentException if the board is null or has no rows.
+   */
+  public static BoardSnapshot of(SanguineElement[][] board) {
+    if (board == null || board.length == 0) {
+      throw new IllegalArgumentException("Board must have at least one row");
+    }
+    CardRegistry registry = new CardRegistry();
+    int[][] rows = new int[board.length][board[0].length];
+    for (int row = 0; row < board.length; row++) {
+      for (int col = 0; col < board[0].length; col++) {
+        SanguineElement el = board[row][col];
+        if (el instanceof SanguineCard card) {
+          rows[row][col] = PackedBoard.encodeCard(registry.intern(card), card.getOwner());
+        } else if (el instanceof SanguinePawnCluster cluster) {
+          rows[row][col] = PackedBoard.encodePawns(cluster.getNumPawns(), cluster.getOwner());
+        }
+      }
+    }
+    return new BoardSnapshot(board[0].length, rows, registry);
+  }
+
+  /**
+   * Returns the number of rows of the board.
+   *
+   * @return the number of rows.
+   */
+  public int getNumRows() {
+    return numRows;
+  }
+
+  /**
+   * Returns the number of columns of the board.
+   *
+   * @return the number of columns.
+   */
+  public int getNumColumns() {
+    return numCols;
+  }
+
+  /**
+   * Returns a new element equal to the one in the cell.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return a copy of the element in the cell, or null if the cell is empty.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public SanguineElement getElementAt(int row, int col) {
+    return PackedBoard.toElement(cell(row, col), registry);
+  }
+
+  /**
+   * Determines if the cell holds neither pawns nor a card.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return true if the cell is empty.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public boolean isEmpty(int row, int col) {
+    return cell(row, col) == PackedBoard.EMPTY;
+  }
+
+  /**
+   * Returns the card in the cell. Cards are not copied, and must not be mutated.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the card in the cell, or null if the cell does not hold a card.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public SanguineCard getCard(int row, int col) {
+    int cell = cell(row, col);
+    return PackedBoard.isCard(cell) ? registry.getCard(PackedBoard.cardId(cell)) : null;
+  }
+
+  /**
+   * Returns the number of pawns in the cell.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the number of pawns, 0 if the cell is empty or holds a card.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public int getNumPawns(int row, int col) {
+    return PackedBoard.pawns(cell(row, col));
+  }
+
+  /**
+   * Returns the owner of the pawns or card in the cell.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the owner of the cell, or null if the cell is empty.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  public Player getOwner(int row, int col) {
+    int cell = cell(row, col);
+    return cell == PackedBoard.EMPTY ? null : PackedBoard.owner(cell);
+  }
+
+  private int cell(int row, int col) {
+    if (row < 0 || col < 0 || row >= numRows || col >= numCols) {
+      throw new IllegalArgumentException("Invalid row/col");
+    }
+    return rows[row][col];
+  }
+}
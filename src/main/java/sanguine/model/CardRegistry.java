@@ -0,0 +1,110 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns card definitions. Every distinct card (by equals) is given a small int id, starting at 0
+ * and counting up in the order the cards are first seen, so that decks, boards and validation can
+ * work on ints and arrays instead of comparing cards. The first instance seen of a card is kept as
+ * its canonical instance. A registry can be shared between threads.
+ */
+public final class CardRegistry {
+  private final Map<SanguineCard, Integer> ids;
+  //canonical instances by id. Replaced by a larger copy when full, under the registry's lock.
+  private volatile SanguineCard[] cards;
+  private volatile int size;
+
+  /**
+   * Creates an empty registry.
+   */
+  public CardRegistry() {
+    this.ids = new ConcurrentHashMap<>();
+    this.cards = new SanguineCard[64];
+    this.size = 0;
+  }
+
+  /**
+   * Returns the id of the card, registering it if no equal card has been registered yet.
+   *
+   * @param card the card to intern.
+   * @return the id of the card.
+   * @throws IllegalArgumentException if the card is null.
+   */
+  public int intern(SanguineCard card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card can't be null");
+    }
+    Integer id = ids.get(card);
+    if (id != null) {
+      return id;
+    }
+    synchronized (this) {
+      id = ids.get(card);
+      if (id == null) {
+        id = size;
+        SanguineCard[] current = cards;
+        if (id == current.length) {
+          current = Arrays.copyOf(current, id * 2);
+        }
+        current[id] = card;
+        cards = current;
+        size = id + 1;
+        ids.put(card, id);
+      }
+      return id;
+    }
+  }
+
+  /**
+   * Returns the ids of the cards of the deck, in the same order, registering the cards that are
+   * not registered yet.
+   *
+   * @param deck the cards to intern, none of which can be null.
+   * @return the ids of the cards.
+   * @throws IllegalArgumentException if a card is null.
+   */
+  public int[] intern(List<SanguineCard> deck) {
+    int[] deckIds = new int[deck.size()];
+    for (int i = 0; i < deckIds.length; i++) {
+      deckIds[i] = intern(deck.get(i));
+    }
+    return deckIds;
+  }
+
+  /**
+   * Returns the id of the card without registering it.
+   *
+   * @param card the card to look up.
+   * @return the id of the card, or -1 if no equal card is registered.
+   */
+  public int idOf(SanguineCard card) {
+    Integer id = card == null ? null : ids.get(card);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * Returns the canonical instance of the card with the given id.
+   *
+   * @param id the id of the card.
+   * @return the first instance registered for that id.
+   * @throws IllegalArgumentException if no card has that id.
+   */
+  public SanguineCard getCard(int id) {
+    if (id < 0 || id >= size) {
+      throw new IllegalArgumentException("No card with id " + id);
+    }
+    return cards[id];
+  }
+
+  /**
+   * Returns the number of distinct cards registered, which is one more than the largest id.
+   *
+   * @return the number of registered cards.
+   */
+  public int size() {
+    return size;
+  }
+}
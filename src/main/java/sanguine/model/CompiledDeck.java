@@ -0,0 +1,273 @@
+package sanguine.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A deck read from a file written by {@link #compile(Path, Path)}, which holds the cards of a
+ * deck file already parsed. The file is memory-mapped rather than read, so opening a deck costs
+ * no parsing and little heap, and every process on a machine opening the same file shares one
+ * copy of it in the operating system's page cache. A card is only built the first time it is
+ * asked for.
+ *
+ * <p>The file starts with a header of 16 bytes: the magic number {@code SGDK}, the format version,
+ * the number of cards and the size of the names in bytes. Cards follow, 16 bytes each and in the
+ * order of the deck file: the cost, a reserved byte, the length of the name in bytes, the value,
+ * the offset of the name from the start of the names and the influence mask, whose bit
+ * {@code row * 5 + col} is set if the card influences that cell of its grid as Red plays it. The
+ * names follow the cards in UTF-8. All numbers are big-endian.
+ */
+public final class CompiledDeck {
+  static final int MAGIC = 0x5347444B;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_SIZE = 16;
+  //bytes written to the file at once while compiling.
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final int MAX_CARDS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+  private final MappedByteBuffer buffer;
+  private final int size;
+  private final int namesStart;
+  private final List<SanguineCard> redCards;
+  private final List<SanguineCard> blueCards;
+
+  private CompiledDeck(MappedByteBuffer buffer, int size) {
+    this.buffer = buffer;
+    this.size = size;
+    this.namesStart = HEADER_SIZE + size * RECORD_SIZE;
+    this.redCards = new Cards(Player.RED);
+    this.blueCards = new Cards(Player.BLUE);
+  }
+
+  /**
+   * Compiles a deck file into the binary format read by {@link #open(Path)}.
+   *
+   * @param deckFile     the deck file to read.
+   * @param compiledFile the file to write, replaced at once if it exists.
+   * @return the number of cards written.
+   * @throws IOException         if a file can't be read or written.
+   * @throws DeckFormatException if the deck file does not follow the deck format.
+   */
+  public static long compile(Path deckFile, Path compiledFile) throws IOException {
+    //written next to the compiled file and moved over it once complete, so that readers never
+    //see a partly written deck and decks already mapped keep their old file
+    Path directory = compiledFile.toAbsolutePath().getParent();
+    Path temp = Files.createTempFile(directory, compiledFile.getFileName().toString(), ".tmp");
+    try {
+      long count = write(deckFile, temp);
+      Files.move(temp, compiledFile, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      return count;
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Writes the compiled deck to the given file.
+   */
+  private static long write(Path deckFile, Path compiledFile) throws IOException {
+    ByteArrayOutputStream names = new ByteArrayOutputStream();
+    try (FileChannel channel = FileChannel.open(compiledFile, StandardOpenOption.WRITE)) {
+      ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+      //the header is written last, once the number of cards is known
+      channel.position(HEADER_SIZE);
+      long count;
+      try {
+        count = new DeckParser(Player.RED).forEachCard(deckFile, card -> {
+          if (out.remaining() < RECORD_SIZE) {
+            flush(out, channel);
+          }
+          //the parser only makes basic cards
+          writeRecord((BasicSanguineCard) card, names, out);
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      if (count > MAX_CARDS
+          || (long) HEADER_SIZE + count * RECORD_SIZE + names.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Deck is too large to compile: " + deckFile);
+      }
+      flush(out, channel);
+      ByteBuffer nameBytes = ByteBuffer.wrap(names.toByteArray());
+      while (nameBytes.hasRemaining()) {
+        channel.write(nameBytes);
+      }
+      out.putInt(MAGIC).putInt(VERSION).putInt((int) count).putInt(names.size()).flip();
+      while (out.hasRemaining()) {
+        channel.write(out, out.position());
+      }
+      return count;
+    }
+  }
+
+  /**
+   * Writes the record of one card to the buffer and its name to the names.
+   */
+  private static void writeRecord(BasicSanguineCard card, ByteArrayOutputStream names,
+                                  ByteBuffer out) {
+    byte[] name = card.getName().getBytes(StandardCharsets.UTF_8);
+    if (name.length > 0xFFFF) {
+      throw new IllegalArgumentException("Name of card is too long: " + card.getName());
+    }
+    out.put((byte) card.getCost());
+    out.put((byte) 0);
+    out.putShort((short) name.length);
+    out.putInt(card.getValue());
+    out.putInt(names.size());
+    out.putInt(card.getInfluenceMask());
+    names.writeBytes(name);
+  }
+
+  private static void flush(ByteBuffer out, FileChannel channel) {
+    out.flip();
+    try {
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    out.clear();
+  }
+
+  /**
+   * Opens the compiled deck in the given file.
+   *
+   * @param path the compiled deck file.
+   * @return the deck, mapped into memory.
+   * @throws IOException              if the file can't be read.
+   * @throws IllegalArgumentException if the file is not a compiled deck.
+   */
+  public static CompiledDeck open(Path path) throws IOException {
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Not a compiled deck: " + path);
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC
+        || buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException("Not a compiled deck: " + path);
+    }
+    long size = buffer.getInt(8);
+    long namesSize = buffer.getInt(12);
+    if (size < 0 || namesSize < 0
+        || HEADER_SIZE + size * RECORD_SIZE + namesSize != buffer.capacity()) {
+      throw new IllegalArgumentException("Truncated compiled deck: " + path);
+    }
+    return new CompiledDeck(buffer, (int) size);
+  }
+
+  /**
+   * Tells whether a file starts like a compiled deck, so it can be told apart from a deck file
+   * without relying on its name.
+   *
+   * @param path the file to check.
+   * @return true if the file starts with the magic number of a compiled deck.
+   * @throws IOException if the file can't be read.
+   */
+  public static boolean isCompiled(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer start = ByteBuffer.allocate(4);
+      while (start.hasRemaining() && channel.read(start) >= 0) {
+        //keep reading until the magic number is in or the file ends
+      }
+      return !start.hasRemaining() && start.getInt(0) == MAGIC;
+    }
+  }
+
+  /**
+   * Returns the number of cards in the deck.
+   *
+   * @return the number of cards.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the cards of the deck as the given player holds them, mirrored left to right for Blue
+   * as {@link DeckParser} does. The list can't be changed. Each card is built the first time it
+   * is read and the same instance is returned afterwards.
+   *
+   * @param owner the owner of the cards.
+   * @return the cards, in the order of the deck file.
+   * @throws IllegalArgumentException if the owner is null.
+   */
+  public List<SanguineCard> getCards(Player owner) {
+    if (owner == null) {
+      throw new IllegalArgumentException("Owner can't be null");
+    }
+    return owner == Player.RED ? redCards : blueCards;
+  }
+
+  /**
+   * Builds a card from its record.
+   */
+  private SanguineCard build(int index, Player owner) {
+    int offset = HEADER_SIZE + index * RECORD_SIZE;
+    int cost = buffer.get(offset);
+    int nameLength = Short.toUnsignedInt(buffer.getShort(offset + 2));
+    int value = buffer.getInt(offset + 4);
+    int nameOffset = buffer.getInt(offset + 8);
+    int mask = buffer.getInt(offset + 12);
+    byte[] name = new byte[nameLength];
+    buffer.get(namesStart + nameOffset, name);
+
+    BasicSanguineCard card = new BasicSanguineCard(value, cost,
+        new String(name, StandardCharsets.UTF_8), mask, Player.RED);
+    //Blue's cards face the other way
+    return owner == Player.RED ? card : card.mirror(owner);
+  }
+
+  /**
+   * The cards of the deck held by one player, built as they are read.
+   */
+  private final class Cards extends AbstractList<SanguineCard> implements RandomAccess {
+    private final Player owner;
+    private final AtomicReferenceArray<SanguineCard> built;
+
+    private Cards(Player owner) {
+      this.owner = owner;
+      this.built = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    public SanguineCard get(int index) {
+      Objects.checkIndex(index, size);
+      SanguineCard card = built.get(index);
+      if (card == null) {
+        card = build(index, owner);
+        //threads racing to build the same card all return the first one stored
+        if (!built.compareAndSet(index, null, card)) {
+          card = built.get(index);
+        }
+      }
+      return card;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
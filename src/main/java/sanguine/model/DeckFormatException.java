@@ -0,0 +1,43 @@
+package sanguine.model;
+
+/**
+ * Thrown when a deck file does not follow the deck format. The message starts with the file and
+ * line where the problem was found, like a compiler error, so that it can be fixed directly.
+ */
+public class DeckFormatException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final String source;
+  private final int lineNumber;
+
+  /**
+   * Creates an exception for a problem at the given line of a deck file.
+   *
+   * @param source     the name of the deck file.
+   * @param lineNumber the line of the problem, starting at 1.
+   * @param reason     what is wrong with the line.
+   */
+  public DeckFormatException(String source, int lineNumber, String reason) {
+    super(source + ":" + lineNumber + ": " + reason);
+    this.source = source;
+    this.lineNumber = lineNumber;
+  }
+
+  /**
+   * Returns the name of the deck file with the problem.
+   *
+   * @return the file name.
+   */
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Returns the line of the deck file with the problem.
+   *
+   * @return the line number, starting at 1.
+   */
+  public int getLineNumber() {
+    return lineNumber;
+  }
+}
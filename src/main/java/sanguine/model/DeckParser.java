@@ -0,0 +1,188 @@
+package sanguine.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the cards of a deck file one line at a time. Each card takes 6 lines: a header with the
+ * card's name, cost and value separated by spaces, followed by 5 rows of 5 cells describing its
+ * influence, where 'I' is a cell the card influences and 'X' or 'C' is a cell it does not. The
+ * center cell is the card itself and must be 'C'. Blank lines between cards are ignored. Blue's
+ * cards are mirrored left to right, since Blue plays from the other side of the board.
+ *
+ * <p>Cards are handed over as soon as they are read, so files of any size can be read in
+ * bounded memory, and each card's influence is kept as a mask rather than a grid. A file that
+ * does not follow the format is rejected with a {@link DeckFormatException} naming the line.
+ */
+public final class DeckParser {
+  /**
+   * The number of rows and columns of the influence grid of a card.
+   */
+  public static final int GRID_SIZE = BasicSanguineCard.GRID_SIZE;
+  //the model places a card costing nothing on an empty cell as well.
+  private static final int MIN_COST = 0;
+  private static final int MAX_COST = 3;
+  //characters read from the file at once.
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Player owner;
+
+  /**
+   * Creates a parser giving the cards it reads to the given player.
+   *
+   * @param owner the owner of the cards.
+   * @throws IllegalArgumentException if the owner is null.
+   */
+  public DeckParser(Player owner) {
+    if (owner == null) {
+      throw new IllegalArgumentException("Owner can't be null");
+    }
+    this.owner = owner;
+  }
+
+  /**
+   * Reads every card of a deck file.
+   *
+   * @param path the deck file.
+   * @return the cards, in the order of the file.
+   * @throws IOException         if the file can't be read.
+   * @throws DeckFormatException if the file does not follow the deck format.
+   */
+  public List<SanguineCard> parse(Path path) throws IOException {
+    List<SanguineCard> deck = new ArrayList<>();
+    forEachCard(path, deck::add);
+    return deck;
+  }
+
+  /**
+   * Reads the cards of a deck file and gives each to the action as soon as it is read, without
+   * keeping them.
+   *
+   * @param path   the deck file.
+   * @param action what to do with each card, in the order of the file.
+   * @return the number of cards read.
+   * @throws IOException         if the file can't be read.
+   * @throws DeckFormatException if the file does not follow the deck format. The cards before the
+   *                             problem have been given to the action.
+   */
+  public long forEachCard(Path path, Consumer<? super SanguineCard> action) throws IOException {
+    try (FileChannel channel = FileChannel.open(path);
+         BufferedReader reader = new BufferedReader(
+             Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), BUFFER_SIZE),
+             BUFFER_SIZE)) {
+      return forEachCard(path.toString(), reader, action);
+    }
+  }
+
+  /**
+   * Reads the cards of a deck from a reader, as {@link #forEachCard(Path, Consumer)} does.
+   *
+   * @param source the name of the deck used in error messages.
+   * @param reader the text of the deck, which is not closed.
+   * @param action what to do with each card, in the order of the text.
+   * @return the number of cards read.
+   * @throws IOException         if the reader fails.
+   * @throws DeckFormatException if the text does not follow the deck format.
+   */
+  public long forEachCard(String source, Reader reader, Consumer<? super SanguineCard> action)
+      throws IOException {
+    BufferedReader lines = reader instanceof BufferedReader buffered
+        ? buffered : new BufferedReader(reader, BUFFER_SIZE);
+    long count = 0;
+    int lineNumber = 0;
+    //the row of the influence grid expected next, -1 while expecting a header.
+    int gridRow = -1;
+    String name = null;
+    int cost = 0;
+    int value = 0;
+    int mask = 0;
+
+    String line;
+    while ((line = lines.readLine()) != null) {
+      lineNumber++;
+      if (gridRow < 0) {
+        if (line.isBlank()) {
+          continue;
+        }
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length != 3) {
+          throw new DeckFormatException(source, lineNumber,
+              "expected '<name> <cost> <value>' but found '" + line + "'");
+        }
+        name = parts[0];
+        cost = parseNumber(parts[1], "cost", source, lineNumber);
+        value = parseNumber(parts[2], "value", source, lineNumber);
+        if (cost < MIN_COST || cost > MAX_COST) {
+          throw new DeckFormatException(source, lineNumber,
+              "cost of " + name + " must be from " + MIN_COST + " to " + MAX_COST
+                  + " but is " + cost);
+        }
+        if (value <= 0) {
+          throw new DeckFormatException(source, lineNumber,
+              "value of " + name + " must be positive but is " + value);
+        }
+        mask = 0;
+        gridRow = 0;
+      } else {
+        mask |= readGridRow(line.stripTrailing(), gridRow, source, lineNumber);
+        gridRow++;
+        if (gridRow == GRID_SIZE) {
+          action.accept(new BasicSanguineCard(value, cost, name, mask, owner));
+          count++;
+          gridRow = -1;
+        }
+      }
+    }
+    if (gridRow >= 0) {
+      throw new DeckFormatException(source, lineNumber,
+          "file ends after " + gridRow + " of the " + GRID_SIZE + " influence rows of " + name);
+    }
+    return count;
+  }
+
+  /**
+   * Reads one row of a card's influence grid.
+   *
+   * @return the bits of the influence mask of the row.
+   */
+  private int readGridRow(String line, int row, String source, int lineNumber) {
+    if (line.length() != GRID_SIZE) {
+      throw new DeckFormatException(source, lineNumber,
+          "influence row must have " + GRID_SIZE + " cells but has " + line.length());
+    }
+    int center = GRID_SIZE / 2;
+    int mask = 0;
+    for (int col = 0; col < GRID_SIZE; col++) {
+      char cell = line.charAt(col);
+      if (row == center && col == center && cell != 'C') {
+        throw new DeckFormatException(source, lineNumber,
+            "center cell must be 'C' but is '" + cell + "'");
+      }
+      if (cell == 'I') {
+        //Blue's cards face the other way
+        mask |= 1 << (row * GRID_SIZE + (owner == Player.RED ? col : GRID_SIZE - 1 - col));
+      } else if (cell != 'X' && cell != 'C') {
+        throw new DeckFormatException(source, lineNumber,
+            "unknown cell '" + cell + "' at column " + (col + 1) + ", expected 'X', 'I' or 'C'");
+      }
+    }
+    return mask;
+  }
+
+  private static int parseNumber(String text, String what, String source, int lineNumber) {
+    try {
+      return Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      throw new DeckFormatException(source, lineNumber,
+          what + " must be a whole number but is '" + text + "'");
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the decks read from files so that each file is only read once. A deck file is parsed as
+ * Red holds it and Blue's cards are mirrored from the cached cards, and the deck is read again
+ * only when the file's modification time or size changes. Decks compiled by
+ * {@link CompiledDeck#compile(Path, Path)} are kept mapped. The decks handed out can't be changed,
+ * so they can be shared between games, players and threads.
+ */
+public final class DeckRepository {
+  private final Map<Path, Entry> decks;
+
+  /**
+   * Creates an empty repository.
+   */
+  public DeckRepository() {
+    this.decks = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the deck in the given file as the given player holds it, reading the file only if it
+   * has not been read before or has changed since.
+   *
+   * @param path  the deck file, either a text deck or a compiled deck.
+   * @param owner the owner of the cards.
+   * @return the cards of the deck, in the order of the file.
+   * @throws IOException              if the file can't be read.
+   * @throws IllegalArgumentException if the path or owner is null.
+   * @throws DeckFormatException      if the file does not follow the deck format.
+   */
+  public List<SanguineCard> getDeck(Path path, Player owner) throws IOException {
+    if (path == null || owner == null) {
+      throw new IllegalArgumentException("Path and owner can't be null");
+    }
+    Path key = path.toAbsolutePath().normalize();
+    BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+    Entry entry = decks.get(key);
+    if (entry == null || !entry.isCurrent(attributes)) {
+      //threads racing to read a changed file may both read it, but all get the same cards
+      entry = load(key, attributes);
+      decks.put(key, entry);
+    }
+    return owner == Player.RED ? entry.red : entry.blue;
+  }
+
+  /**
+   * Returns the number of deck files kept.
+   *
+   * @return the number of cached decks.
+   */
+  public int size() {
+    return decks.size();
+  }
+
+  /**
+   * Forgets every deck, so the next request for each reads its file again.
+   */
+  public void clear() {
+    decks.clear();
+  }
+
+  private static Entry load(Path path, BasicFileAttributes attributes) throws IOException {
+    if (CompiledDeck.isCompiled(path)) {
+      CompiledDeck deck = CompiledDeck.open(path);
+      return new Entry(attributes, deck.getCards(Player.RED), deck.getCards(Player.BLUE));
+    }
+    List<SanguineCard> red = new DeckParser(Player.RED).parse(path);
+    List<SanguineCard> blue = new ArrayList<>(red.size());
+    for (SanguineCard card : red) {
+      //the parser only makes basic cards
+      blue.add(((BasicSanguineCard) card).mirror(Player.BLUE));
+    }
+    return new Entry(attributes, Collections.unmodifiableList(red),
+        Collections.unmodifiableList(blue));
+  }
+
+  /**
+   * The cards of one deck file and the state of the file they were read from.
+   */
+  private static final class Entry {
+    private final FileTime modified;
+    private final long size;
+    private final List<SanguineCard> red;
+    private final List<SanguineCard> blue;
+
+    private Entry(BasicFileAttributes attributes, List<SanguineCard> red,
+                  List<SanguineCard> blue) {
+      this.modified = attributes.lastModifiedTime();
+      this.size = attributes.size();
+      this.red = red;
+      this.blue = blue;
+    }
+
+    private boolean isCurrent(BasicFileAttributes attributes) {
+      return modified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Checks decks against the rules of a board of a given size, one at a time or in batches spread
+ * over a pool of threads. A deck is valid if it and its cards are not null, it has enough cards to
+ * fill every cell of the board, and it holds at most {@link #MAX_COPIES} copies of any card. Copies
+ * are counted in a small hash table of the deck's cards, keyed by their hash codes and compared by
+ * equals only within a bucket, so checking a deck takes time linear in its size and touches no
+ * state shared with other decks or threads.
+ */
+public final class DeckValidator {
+  /**
+   * The most copies of one card a deck can hold.
+   */
+  public static final int MAX_COPIES = 2;
+  //batches are split into this many tasks per thread of the pool, to even out uneven decks.
+  private static final int TASKS_PER_THREAD = 4;
+
+  /**
+   * Why a deck is or is not valid.
+   */
+  public enum Reason {
+    VALID, NULL_DECK, TOO_FEW_CARDS, NULL_CARD, TOO_MANY_COPIES;
+
+    /**
+     * Tells whether this is the reason of a valid deck.
+     *
+     * @return true if the deck is valid.
+     */
+    public boolean isValid() {
+      return this == VALID;
+    }
+  }
+
+  private final int minSize;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a validator for decks played on a board of the given size, checking batches on the
+   * common pool.
+   *
+   * @param numRows the number of rows of the board.
+   * @param numCols the number of columns of the board.
+   * @throws IllegalArgumentException if a dimension is not positive.
+   */
+  public DeckValidator(int numRows, int numCols) {
+    this(numRows, numCols, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a validator for decks played on a board of the given size, checking batches on the
+   * given pool.
+   *
+   * @param numRows the number of rows of the board.
+   * @param numCols the number of columns of the board.
+   * @param pool    the pool checking batches of decks.
+   * @throws IllegalArgumentException if a dimension is not positive or the pool is null.
+   */
+  public DeckValidator(int numRows, int numCols, ForkJoinPool pool) {
+    if (numRows <= 0 || numCols <= 0) {
+      throw new IllegalArgumentException("Number of rows and columns must be greater than 0");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool can't be null");
+    }
+    this.minSize = numRows * numCols;
+    this.pool = pool;
+  }
+
+  /**
+   * Checks one deck.
+   *
+   * @param deck the deck to check.
+   * @return {@link Reason#VALID} if the deck is valid, or else the first rule it breaks.
+   */
+  public Reason validate(List<SanguineCard> deck) {
+    return new CopyCounter().check(deck);
+  }
+
+  /**
+   * Checks a batch of decks on the validator's pool.
+   *
+   * @param decks the decks to check, any of which may be null.
+   * @return the reason of each deck, in the order of the batch.
+   * @throws IllegalArgumentException if the batch is null.
+   * @throws IllegalStateException    if the thread is interrupted while waiting for the pool.
+   */
+  public Reason[] validateAll(List<? extends List<SanguineCard>> decks) {
+    if (decks == null) {
+      throw new IllegalArgumentException("Decks can't be null");
+    }
+    List<? extends List<SanguineCard>> batch = new ArrayList<>(decks);
+    Reason[] reasons = new Reason[batch.size()];
+    int numTasks = Math.min(batch.size(), pool.getParallelism() * TASKS_PER_THREAD);
+    List<Callable<Void>> tasks = new ArrayList<>(numTasks);
+    for (int task = 0; task < numTasks; task++) {
+      int from = (int) ((long) task * batch.size() / numTasks);
+      int to = (int) ((long) (task + 1) * batch.size() / numTasks);
+      tasks.add(() -> {
+        //one table per task, reused for every deck of its part of the batch
+        CopyCounter counter = new CopyCounter();
+        for (int i = from; i < to; i++) {
+          reasons[i] = counter.check(batch.get(i));
+        }
+        return null;
+      });
+    }
+    try {
+      for (Future<Void> result : pool.invokeAll(tasks)) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Validation interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Validation failed", e.getCause());
+    }
+    return reasons;
+  }
+
+  /**
+   * Counts the copies of each card of a deck in an open-addressing hash table, which is cleared
+   * after each deck so that it can be reused.
+   */
+  private final class CopyCounter {
+    private SanguineCard[] cards;
+    private int[] counts;
+    //the slots used by the current deck, to clear them afterwards.
+    private int[] used;
+    private int numUsed;
+
+    private CopyCounter() {
+      this.cards = new SanguineCard[64];
+      this.counts = new int[64];
+      this.used = new int[32];
+      this.numUsed = 0;
+    }
+
+    private Reason check(List<SanguineCard> deck) {
+      if (deck == null) {
+        return Reason.NULL_DECK;
+      }
+      if (deck.size() < minSize) {
+        return Reason.TOO_FEW_CARDS;
+      }
+      //at most half full, so probes stay short
+      if (cards.length < 2 * deck.size()) {
+        int capacity = Integer.highestOneBit(2 * deck.size() - 1) << 1;
+        cards = new SanguineCard[capacity];
+        counts = new int[capacity];
+        used = new int[capacity / 2];
+      }
+      try {
+        for (SanguineCard card : deck) {
+          if (card == null) {
+            return Reason.NULL_CARD;
+          }
+          int slot = slotOf(card);
+          if (cards[slot] == null) {
+            cards[slot] = card;
+            used[numUsed++] = slot;
+          }
+          if (++counts[slot] > MAX_COPIES) {
+            return Reason.TOO_MANY_COPIES;
+          }
+        }
+        return Reason.VALID;
+      } finally {
+        for (int i = 0; i < numUsed; i++) {
+          cards[used[i]] = null;
+          counts[used[i]] = 0;
+        }
+        numUsed = 0;
+      }
+    }
+
+    /**
+     * Returns the slot holding the card or an equal card, or the empty slot where it belongs.
+     */
+    private int slotOf(SanguineCard card) {
+      int mask = cards.length - 1;
+      int hash = card.hashCode() * 0x9E3779B9;
+      int slot = (hash ^ hash >>> 16) & mask;
+      while (cards[slot] != null && !cards[slot].equals(card)) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+}
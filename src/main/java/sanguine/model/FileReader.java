@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,13 +20,9 @@ public interface FileReader {
    * @return a list of Strings with each entry being a line from the file.
    */
   static List<String> getLines(String filePath) {
-    String[] parts = filePath.split("[/\\\\]");
-
-    String computerPath = String.join(File.separator, parts);
-    File file = new File(computerPath);
     List<String> lines = new ArrayList<>();
     try {
-      lines = Files.readAllLines(file.toPath());
+      lines = Files.readAllLines(toPath(filePath));
     } catch (NoSuchFileException e) {
       System.out.println("File not found.");
     } catch (IOException e) {
@@ -33,4 +30,15 @@ public interface FileReader {
     }
     return lines;
   }
+
+  /**
+   * Converts a path written with either forward or backward slashes to a path on this computer.
+   *
+   * @param filePath the path to the file as a String.
+   * @return the path to the file.
+   */
+  static Path toPath(String filePath) {
+    String[] parts = filePath.split("[/\\\\]");
+    return new File(String.join(File.separator, parts)).toPath();
+  }
 }
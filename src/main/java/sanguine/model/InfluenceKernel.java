@@ -0,0 +1,101 @@
+package sanguine.model;
+
+import java.util.Arrays;
+
+/**
+ * A card's influence grid compiled for one board size. The grid is turned once into a list of
+ * (row offset, column offset, pawn increase) entries for its non-null influences, and for every
+ * cell the card is placed on, the entries that fall on the board are turned into a table of
+ * (cell index, pawn increase) pairs. Placing a card then only visits the cells it influences.
+ */
+final class InfluenceKernel {
+  //the position of the card within its influence grid.
+  private static final int CENTER = 2;
+
+  private final int numRows;
+  private final int numCols;
+  private final int[] rowOffsets;
+  private final int[] colOffsets;
+  private final int[] increases;
+  //per cell of the board, the (index, increase) pairs clipped to the board. Built when needed.
+  private final int[][] targetsByCell;
+
+  /**
+   * Compiles the influence grid of the card for a board of the given size.
+   *
+   * @param card    the card whose influence grid is compiled.
+   * @param numRows the number of rows of the board.
+   * @param numCols the number of columns of the board.
+   */
+  InfluenceKernel(SanguineCard card, int numRows, int numCols) {
+    this.numRows = numRows;
+    this.numCols = numCols;
+    int count = 0;
+    int[] rows = new int[25];
+    int[] cols = new int[25];
+    int[] incs = new int[25];
+    if (card instanceof BasicSanguineCard basic) {
+      //visit only the influenced cells, without building the grid
+      int self = 1 << (CENTER * BasicSanguineCard.GRID_SIZE + CENTER);
+      int mask = basic.getInfluenceMask() & ~self;
+      for (int bits = mask; bits != 0; bits &= bits - 1) {
+        int cell = Integer.numberOfTrailingZeros(bits);
+        rows[count] = cell / BasicSanguineCard.GRID_SIZE - CENTER;
+        cols[count] = cell % BasicSanguineCard.GRID_SIZE - CENTER;
+        incs[count] = basic.getPawnIncrease(cell);
+        count++;
+      }
+    } else {
+      Influence[][] grid = card.getInfluenceGrid();
+      for (int gridRow = 0; gridRow < grid.length; gridRow++) {
+        for (int gridCol = 0; gridCol < grid[gridRow].length; gridCol++) {
+          Influence infl = grid[gridRow][gridCol];
+          if (infl == null || gridRow == CENTER && gridCol == CENTER) { //skip the card itself
+            continue;
+          }
+          if (count == rows.length) {
+            rows = Arrays.copyOf(rows, count * 2);
+            cols = Arrays.copyOf(cols, count * 2);
+            incs = Arrays.copyOf(incs, count * 2);
+          }
+          rows[count] = gridRow - CENTER;
+          cols[count] = gridCol - CENTER;
+          incs[count] = infl.numPawnIncrease();
+          count++;
+        }
+      }
+    }
+    this.rowOffsets = Arrays.copyOf(rows, count);
+    this.colOffsets = Arrays.copyOf(cols, count);
+    this.increases = Arrays.copyOf(incs, count);
+    this.targetsByCell = new int[numRows * numCols][];
+  }
+
+  /**
+   * Returns the cells influenced by the card when it is placed on the given cell, as consecutive
+   * (cell index, pawn increase) pairs. Influences falling off the board are left out.
+   *
+   * @param row the row the card is placed on.
+   * @param col the column the card is placed on.
+   * @return the influenced cells and their pawn increases.
+   */
+  int[] targets(int row, int col) {
+    int index = row * numCols + col;
+    int[] targets = targetsByCell[index];
+    if (targets == null) {
+      targets = new int[increases.length * 2];
+      int size = 0;
+      for (int i = 0; i < increases.length; i++) {
+        int targetRow = row + rowOffsets[i];
+        int targetCol = col + colOffsets[i];
+        if (targetRow >= 0 && targetRow < numRows && targetCol >= 0 && targetCol < numCols) {
+          targets[size++] = targetRow * numCols + targetCol;
+          targets[size++] = increases[i];
+        }
+      }
+      targets = Arrays.copyOf(targets, size);
+      targetsByCell[index] = targets;
+    }
+    return targets;
+  }
+}
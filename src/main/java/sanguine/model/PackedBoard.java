@@ -0,0 +1,377 @@
+package sanguine.model;
+
+import java.util.Arrays;
+
+/**
+ * Compact representation of a Sanguine board. Every cell is stored as a single int in one flat
+ * array, instead of as a SanguineElement object, so that the board can be read and mutated
+ * without allocating. SanguineElement objects are only created when the board is handed out
+ * through the public model API.
+ *
+ * <p>Cell encoding (from the least significant bit):
+ * bits 0-1 hold the number of pawns (0-3), bit 2 is set if the owner is the blue player, bit 3 is
+ * set if the cell holds a card, and the remaining bits hold the id of that card in the board's
+ * {@link CardRegistry}. A cell with no
+ * pawns and no card is empty and is always encoded as {@link #EMPTY}.
+ */
+final class PackedBoard {
+  static final int EMPTY = 0;
+  private static final int PAWN_MASK = 0x3;
+  private static final int BLUE_BIT = 0x4;
+  private static final int CARD_BIT = 0x8;
+  private static final int ID_SHIFT = 4;
+
+  private final int numRows;
+  private final int numCols;
+  //row-major cells, the cell (row, col) is at index row * numCols + col.
+  private final int[] cells;
+  //the registry giving the ids of the cards placed on this board.
+  private final CardRegistry registry;
+  //per-row sums of the values of the cards owned by each player, kept up to date by set().
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private int redScore;
+  private int blueScore;
+  //the number of writes that have changed a cell since the board was created.
+  private long modCount;
+  //the Zobrist hash of the contents of every cell, kept up to date by set().
+  private long hash;
+  //bitsets over the cell indices: the empty cells, and by owner ordinal and n - 1, the cells
+  //holding at least n pawns of that owner. Kept up to date by set().
+  private final long[] emptyCells;
+  private final long[][][] pawnCells;
+  //the last snapshot handed out, its rows, and which rows have changed since it was taken.
+  private BoardSnapshot snapshot;
+  private long snapshotModCount;
+  private int[][] snapshotRows;
+  private final boolean[] dirtyRows;
+  //(index, previous cell) pairs of the writes made while recording, used to roll them back.
+  private int[] journal;
+  private int journalSize;
+  private boolean recording;
+
+  /**
+   * Creates an empty board of the given size.
+   *
+   * @param numRows the number of rows of the board.
+   * @param numCols  the number of columns of the board.
+   * @param registry the registry giving the ids of the cards placed on the board.
+   */
+  PackedBoard(int numRows, int numCols, CardRegistry registry) {
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.cells = new int[numRows * numCols];
+    this.registry = registry;
+    this.redRowScores = new int[numRows];
+    this.blueRowScores = new int[numRows];
+    this.journal = new int[64];
+    this.dirtyRows = new boolean[numRows];
+    int words = (numRows * numCols + 63) / 64;
+    this.emptyCells = new long[words];
+    this.pawnCells = new long[2][3][words];
+    for (int index = 0; index < numRows * numCols; index++) {
+      setBit(emptyCells, index, true);
+    }
+  }
+
+  int getNumRows() {
+    return numRows;
+  }
+
+  int getNumColumns() {
+    return numCols;
+  }
+
+  /**
+   * Returns the index of the given cell in the flat cell array.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the flat index of the cell.
+   */
+  int index(int row, int col) {
+    return row * numCols + col;
+  }
+
+  int get(int row, int col) {
+    return cells[index(row, col)];
+  }
+
+  int get(int index) {
+    return cells[index];
+  }
+
+  void set(int row, int col, int cell) {
+    set(index(row, col), cell);
+  }
+
+  void set(int index, int cell) {
+    int old = cells[index];
+    if (old == cell) {
+      return;
+    }
+    modCount++;
+    dirtyRows[index / numCols] = true;
+    if (recording) {
+      if (journalSize == journal.length) {
+        journal = Arrays.copyOf(journal, journal.length * 2);
+      }
+      journal[journalSize++] = index;
+      journal[journalSize++] = old;
+    }
+    hash ^= cellKey(index, old) ^ cellKey(index, cell);
+    updateBitsets(index, old, false);
+    updateBitsets(index, cell, true);
+    if (isCard(old)) {
+      addScore(index / numCols, old, -cardOf(old).getValue());
+    }
+    cells[index] = cell;
+    if (isCard(cell)) {
+      addScore(index / numCols, cell, cardOf(cell).getValue());
+    }
+  }
+
+  /**
+   * Starts or stops recording the writes made to this board, so that they can be rolled back.
+   *
+   * @param recording true to record the writes, false to stop recording them.
+   */
+  void setRecording(boolean recording) {
+    this.recording = recording;
+  }
+
+  /**
+   * Returns the size of the journal of recorded writes, to be passed to {@link #rollback}.
+   *
+   * @return the current size of the journal.
+   */
+  int getJournalSize() {
+    return journalSize;
+  }
+
+  /**
+   * Undoes the recorded writes made after the journal had the given size, most recent first.
+   * Scores and the hash are restored by the same writes, while the modification count keeps
+   * increasing.
+   *
+   * @param journalSize the size of the journal to roll back to.
+   */
+  void rollback(int journalSize) {
+    boolean wasRecording = recording;
+    recording = false;
+    while (this.journalSize > journalSize) {
+      int old = journal[--this.journalSize];
+      int index = journal[--this.journalSize];
+      set(index, old);
+    }
+    recording = wasRecording;
+  }
+
+  /**
+   * Returns the Zobrist hash of the contents and owners of every cell of the board.
+   *
+   * @return the hash of the board.
+   */
+  long getHash() {
+    return hash;
+  }
+
+  private long cellKey(int index, int cell) {
+    if (cell == EMPTY) {
+      return 0;
+    }
+    if (isCard(cell)) {
+      return ZobristKeys.cardKey(index, cardOf(cell));
+    }
+    return ZobristKeys.pawnKey(index, cell & (PAWN_MASK | BLUE_BIT));
+  }
+
+  private void updateBitsets(int index, int cell, boolean present) {
+    if (cell == EMPTY) {
+      setBit(emptyCells, index, present);
+    }
+    for (int n = 0; n < pawns(cell); n++) {
+      setBit(pawnCells[owner(cell).ordinal()][n], index, present);
+    }
+  }
+
+  private static void setBit(long[] bitset, int index, boolean value) {
+    if (value) {
+      bitset[index >> 6] |= 1L << index;
+    } else {
+      bitset[index >> 6] &= ~(1L << index);
+    }
+  }
+
+  /**
+   * Writes into the given bitset the cells a card with the given owner and cost can be placed on:
+   * cells holding at least that many pawns of the owner, and also the empty cells for cards that
+   * cost nothing. Bit i of word i / 64 stands for the cell with flat index i.
+   *
+   * @param owner  the owner of the card.
+   * @param cost   the cost of the card.
+   * @param result the bitset to fill, with at least (cells + 63) / 64 words.
+   */
+  void placeableCells(Player owner, int cost, long[] result) {
+    for (int word = 0; word < emptyCells.length; word++) {
+      long cells;
+      if (cost > 3) {
+        cells = 0;
+      } else {
+        cells = pawnCells[owner.ordinal()][Math.max(cost, 1) - 1][word];
+        if (cost == 0) {
+          cells |= emptyCells[word];
+        }
+      }
+      result[word] = cells;
+    }
+  }
+
+  /**
+   * Returns an immutable snapshot of the board. The same snapshot is returned until a cell
+   * changes, and a new snapshot reuses the rows of the previous one that have not changed.
+   *
+   * @return a snapshot of the current board.
+   */
+  BoardSnapshot snapshot() {
+    if (snapshot != null && snapshotModCount == modCount) {
+      return snapshot;
+    }
+    int[][] rows = new int[numRows][];
+    for (int row = 0; row < numRows; row++) {
+      if (snapshotRows == null || dirtyRows[row]) {
+        rows[row] = Arrays.copyOfRange(cells, row * numCols, (row + 1) * numCols);
+        dirtyRows[row] = false;
+      } else {
+        rows[row] = snapshotRows[row];
+      }
+    }
+    snapshotRows = rows;
+    snapshot = new BoardSnapshot(numCols, rows, registry);
+    snapshotModCount = modCount;
+    return snapshot;
+  }
+
+  /**
+   * Returns the number of writes that have changed a cell of this board. Two equal counts mean no
+   * cell has changed in between.
+   *
+   * @return the modification count of the board.
+   */
+  long getModCount() {
+    return modCount;
+  }
+
+  /**
+   * Returns the sum of the values of the cards owned by the player in the row.
+   *
+   * @param row    the row of the board.
+   * @param player the owner of the cards.
+   * @return the sum of the card values for that row and player.
+   */
+  int rowScore(int row, Player player) {
+    return player == Player.RED ? redRowScores[row] : blueRowScores[row];
+  }
+
+  /**
+   * Returns the sum of the values of all cards on the board owned by the player.
+   *
+   * @param player the owner of the cards.
+   * @return the sum of the card values over every row.
+   */
+  int totalScore(Player player) {
+    return player == Player.RED ? redScore : blueScore;
+  }
+
+  private void addScore(int row, int cell, int value) {
+    if (owner(cell) == Player.RED) {
+      redRowScores[row] += value;
+      redScore += value;
+    } else {
+      blueRowScores[row] += value;
+      blueScore += value;
+    }
+  }
+
+  /**
+   * Returns the encoded cell holding the card with the given id. The owner stored in the cell is
+   * the owner of the card.
+   *
+   * @param cardId the id of the card in the board's registry.
+   * @param owner  the owner of the card.
+   * @return the encoded cell holding the card.
+   */
+  static int encodeCard(int cardId, Player owner) {
+    return (cardId << ID_SHIFT) | CARD_BIT | ownerBits(owner);
+  }
+
+  /**
+   * Returns the card held in the encoded cell.
+   *
+   * @param cell the encoded cell, which must hold a card.
+   * @return the card in the cell.
+   */
+  SanguineCard cardOf(int cell) {
+    return registry.getCard(cardId(cell));
+  }
+
+  static int cardId(int cell) {
+    return cell >>> ID_SHIFT;
+  }
+
+  /**
+   * Creates a new SanguineElement equivalent to the encoded cell.
+   *
+   * @param cell the encoded cell.
+   * @return a new element for the cell, or null if the cell is empty.
+   */
+  SanguineElement toElement(int cell) {
+    return toElement(cell, registry);
+  }
+
+  /**
+   * Creates a new SanguineElement equivalent to the encoded cell.
+   *
+   * @param cell     the encoded cell.
+   * @param registry the registry of the card ids.
+   * @return a new element for the cell, or null if the cell is empty.
+   */
+  static SanguineElement toElement(int cell, CardRegistry registry) {
+    if (isCard(cell)) {
+      return registry.getCard(cardId(cell)).getCopy();
+    }
+    switch (pawns(cell)) {
+      case 1:
+        return new BasicSanguinePawnCluster(PawnClusterSize.ONE, owner(cell));
+      case 2:
+        return new BasicSanguinePawnCluster(PawnClusterSize.TWO, owner(cell));
+      case 3:
+        return new BasicSanguinePawnCluster(PawnClusterSize.THREE, owner(cell));
+      default:
+        return null;
+    }
+  }
+
+  static int encodePawns(int numPawns, Player owner) {
+    if (numPawns <= 0) {
+      return EMPTY;
+    }
+    return Math.min(numPawns, 3) | ownerBits(owner);
+  }
+
+  static boolean isCard(int cell) {
+    return (cell & CARD_BIT) != 0;
+  }
+
+  static int pawns(int cell) {
+    return isCard(cell) ? 0 : cell & PAWN_MASK;
+  }
+
+  static Player owner(int cell) {
+    return (cell & BLUE_BIT) != 0 ? Player.BLUE : Player.RED;
+  }
+
+  private static int ownerBits(Player owner) {
+    return owner == Player.BLUE ? BLUE_BIT : 0;
+  }
+}
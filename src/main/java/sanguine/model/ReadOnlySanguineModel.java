@@ -1,6 +1,7 @@
 package sanguine.model;
 
 import java.util.List;
+import sanguine.strategy.Move;
 
 /**
  * A readonly version of the Sanguine model. Contains all observation methods of the model.
@@ -13,6 +14,26 @@ public interface ReadOnlySanguineModel {
    */
   SanguineElement[][] getBoard();
 
+  /**
+   * Returns an immutable snapshot of the current state of the board. Unlike
+   * {@link #getBoard()}, taking a snapshot does not copy the cells: the same snapshot is shared by
+   * every reader until the board changes, and it stays valid after the board changes.
+   *
+   * @return a snapshot of the board.
+   */
+  BoardSnapshot getSnapshot();
+
+  /**
+   * Returns a copy of the element in one cell of the board, without copying the rest of the
+   * board.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return a copy of the element in the cell, or null if the cell is empty.
+   * @throws IllegalArgumentException if the cell is not on the board.
+   */
+  SanguineElement getElementAt(int row, int col);
+
   /**
    * Returns the maximum number of cards in a player's hand that is visible at any moment.
    *
@@ -102,4 +123,33 @@ public interface ReadOnlySanguineModel {
    * @return true if the card can be placed and false if it cannot.
    */
   boolean canBePlaced(SanguineCard card, SanguineElement elem);
+
+  /**
+   * Returns every move placing a card from the player's hand where
+   * {@link #canBePlaced(SanguineCard, SanguineElement)} allows it, ordered by hand index, then
+   * row, then column. The model keeps an index of the cells each owner holds with 1, 2 or 3
+   * pawns and of the empty cells, so the moves are found without looking at every cell.
+   *
+   * @param player the player whose hand is used. Either red or blue.
+   * @return the legal placements for the player's hand, empty if there are none.
+   */
+  List<Move> getLegalMoves(Player player);
+
+  /**
+   * Returns a 64-bit Zobrist hash of the current position. The hash covers the contents and
+   * owners of every cell, the player whose turn it is and the cards in each player's hand (in any
+   * order). Equal positions always have equal hashes, and the hash is updated incrementally as the
+   * game is played, so it is a cheap identity for a position.
+   *
+   * @return the hash of the current position.
+   */
+  long getPositionHash();
+
+  /**
+   * Returns the number of turns in a row that have ended without the board changing. The game is
+   * over once two turns in a row end this way.
+   *
+   * @return the number of consecutive turns without a change to the board.
+   */
+  int getTurnsWithoutChange();
 }
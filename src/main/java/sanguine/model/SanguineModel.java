@@ -1,6 +1,7 @@
 package sanguine.model;
 
 import java.util.List;
+import sanguine.strategy.Move;
 
 /**
  * Represents a model for the game Sanguine. Contains methods for initializing and starting a game,
@@ -80,6 +81,28 @@ public interface SanguineModel extends ReadOnlySanguineModel {
    */
   void switchPlayer();
 
+  /**
+   * Plays a whole turn for the current player, for searching ahead without copying the model. The
+   * move's card is placed (unless the move is a pass), the turn goes to the other player exactly
+   * as in {@link #switchPlayer()}, and that player draws a card if their deck is not empty.
+   * Listeners are not notified. The turn can be taken back with {@link #undoMove()}.
+   *
+   * @param move the move to play, or {@link Move#PASS} to pass the turn.
+   * @throws IllegalArgumentException if the move is null or out of bounds.
+   * @throws IllegalStateException    if the card cannot legally be placed.
+   */
+  void applyMove(Move move) throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Takes back the last turn played with {@link #applyMove(Move)}, restoring the board, both
+   * hands and decks, the current player and the count of turns without changes. Turns must be
+   * taken back in the reverse order they were played, and the model must not be mutated by other
+   * methods in between.
+   *
+   * @throws IllegalStateException if there is no move to take back.
+   */
+  void undoMove() throws IllegalStateException;
+
   /**
    * Subscribes a listener to this model.
    *
@@ -0,0 +1,109 @@
+package sanguine.model;
+
+import java.util.Arrays;
+
+/**
+ * Stack of the information needed to take back moves played with
+ * {@link SanguineModel#applyMove}. Frames are stored in parallel primitive arrays that only grow,
+ * so pushing and popping frames does not allocate once the stack has reached the depth of the
+ * search using it.
+ */
+final class UndoStack {
+  //layout of a frame in the int array.
+  private static final int HAND_INDEX = 0;
+  private static final int JOURNAL_SIZE = 1;
+  private static final int NO_CHANGE_COUNT = 2;
+  private static final int TURN_MOD_DELTA = 3;
+  private static final int DREW = 4;
+  private static final int STRIDE = 5;
+
+  private int[] frames;
+  private SanguineCard[] placedCards;
+  private int size;
+
+  /**
+   * Creates an empty stack.
+   */
+  UndoStack() {
+    this.frames = new int[STRIDE * 16];
+    this.placedCards = new SanguineCard[16];
+    this.size = 0;
+  }
+
+  /**
+   * Pushes a frame for a move that is about to be played.
+   *
+   * @param journalSize   the size of the board's journal before the move.
+   * @param noChangeCount the model's count of turns without changes before the move.
+   * @param turnModDelta  the number of board changes made so far in the current turn.
+   */
+  void push(int journalSize, int noChangeCount, int turnModDelta) {
+    if (size == placedCards.length) {
+      frames = Arrays.copyOf(frames, frames.length * 2);
+      placedCards = Arrays.copyOf(placedCards, placedCards.length * 2);
+    }
+    int base = size * STRIDE;
+    frames[base + HAND_INDEX] = -1;
+    frames[base + JOURNAL_SIZE] = journalSize;
+    frames[base + NO_CHANGE_COUNT] = noChangeCount;
+    frames[base + TURN_MOD_DELTA] = turnModDelta;
+    frames[base + DREW] = 0;
+    placedCards[size] = null;
+    size++;
+  }
+
+  /**
+   * Records that the move of the top frame placed the card from the given index of the hand.
+   *
+   * @param handIndex the index of the card in the hand before it was placed.
+   * @param card      the card that was placed.
+   */
+  void setPlaced(int handIndex, SanguineCard card) {
+    frames[(size - 1) * STRIDE + HAND_INDEX] = handIndex;
+    placedCards[size - 1] = card;
+  }
+
+  /**
+   * Records that the next player drew a card at the end of the move of the top frame.
+   */
+  void setDrew() {
+    frames[(size - 1) * STRIDE + DREW] = 1;
+  }
+
+  void pop() {
+    size--;
+    placedCards[size] = null;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int handIndex() {
+    return top(HAND_INDEX);
+  }
+
+  SanguineCard placedCard() {
+    return placedCards[size - 1];
+  }
+
+  int journalSize() {
+    return top(JOURNAL_SIZE);
+  }
+
+  int noChangeCount() {
+    return top(NO_CHANGE_COUNT);
+  }
+
+  int turnModDelta() {
+    return top(TURN_MOD_DELTA);
+  }
+
+  boolean drew() {
+    return top(DREW) != 0;
+  }
+
+  private int top(int field) {
+    return frames[(size - 1) * STRIDE + field];
+  }
+}
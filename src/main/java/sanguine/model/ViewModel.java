@@ -1,6 +1,7 @@
 package sanguine.model;
 
 import java.util.List;
+import sanguine.strategy.Move;
 
 /**
  * Implements the ReadOnlySanguineModel interface, while using a SanguineModel delegate
@@ -24,6 +25,16 @@ public class ViewModel implements ReadOnlySanguineModel {
     return adaptee.getBoard();
   }
 
+  @Override
+  public BoardSnapshot getSnapshot() {
+    return adaptee.getSnapshot();
+  }
+
+  @Override
+  public SanguineElement getElementAt(int row, int col) {
+    return adaptee.getElementAt(row, col);
+  }
+
   @Override
   public int getNumHands() {
     return adaptee.getNumHands();
@@ -78,4 +89,19 @@ public class ViewModel implements ReadOnlySanguineModel {
   public boolean canBePlaced(SanguineCard card, SanguineElement elem) {
     return adaptee.canBePlaced(card, elem);
   }
+
+  @Override
+  public List<Move> getLegalMoves(Player player) {
+    return adaptee.getLegalMoves(player);
+  }
+
+  @Override
+  public long getPositionHash() {
+    return adaptee.getPositionHash();
+  }
+
+  @Override
+  public int getTurnsWithoutChange() {
+    return adaptee.getTurnsWithoutChange();
+  }
 }
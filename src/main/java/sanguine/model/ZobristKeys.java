@@ -0,0 +1,70 @@
+package sanguine.model;
+
+/**
+ * Keys used to compute the Zobrist hash of a Sanguine position. Instead of a table of random
+ * numbers, every key is derived by mixing a description of the feature it stands for, so the
+ * keys are the same for every board size and in every run of the program.
+ */
+final class ZobristKeys {
+  //key xored into the hash when it is the blue player's turn.
+  static final long SIDE_TO_MOVE = mix(0x5349444554304D4FL);
+  private static final long PAWN_SALT = 0x50415748534C5431L;
+  private static final long CARD_SALT = 0x434152444B455931L;
+  private static final long RED_HAND_SALT = 0x5245444841E44431L;
+  private static final long BLUE_HAND_SALT = 0x424C554548414E44L;
+
+  private ZobristKeys() {
+  }
+
+  /**
+   * Returns the key of a cell holding pawns.
+   *
+   * @param index     the flat index of the cell on the board.
+   * @param pawnState the pawn count and owner bits of the encoded cell.
+   * @return the key for that number of pawns and owner on that cell.
+   */
+  static long pawnKey(int index, int pawnState) {
+    return mix(PAWN_SALT + ((long) index << 8) + pawnState);
+  }
+
+  /**
+   * Returns the key of a cell holding the given card.
+   *
+   * @param index the flat index of the cell on the board.
+   * @param card  the card on the cell.
+   * @return the key for that card on that cell.
+   */
+  static long cardKey(int index, SanguineCard card) {
+    return mix(CARD_SALT + ((long) index << 40) + cardIdentity(card));
+  }
+
+  /**
+   * Returns the key of one copy of the card in the hand of the player. Hands are hashed by adding
+   * these keys so that a hand is hashed as a multiset and the order of the cards does not matter.
+   *
+   * @param card   the card in the hand.
+   * @param player the owner of the hand.
+   * @return the key for that card in that hand.
+   */
+  static long handKey(SanguineCard card, Player player) {
+    return mix((player == Player.RED ? RED_HAND_SALT : BLUE_HAND_SALT) + cardIdentity(card));
+  }
+
+  private static long cardIdentity(SanguineCard card) {
+    return ((long) card.hashCode() << 1) + card.getOwner().ordinal();
+  }
+
+  /**
+   * Scrambles the bits of the value (the SplitMix64 finalizer), so that close inputs produce
+   * unrelated keys.
+   *
+   * @param value the value to scramble.
+   * @return the scrambled value.
+   */
+  static long mix(long value) {
+    long z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -25,4 +25,14 @@ public class HumanPlayer implements PlayerActions {
   public void notifyTurn(ReadOnlySanguineModel model) {
 
   }
+
+  @Override
+  public void notifyOpponentTurn(ReadOnlySanguineModel model) {
+
+  }
+
+  @Override
+  public void cancel() {
+
+  }
 }
@@ -2,37 +2,85 @@ package sanguine.player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import sanguine.metrics.MetricsListener;
+import sanguine.model.BasicSanguineModel;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
 import sanguine.model.SanguineCard;
+import sanguine.strategy.MeasuredStrategy;
 import sanguine.strategy.Move;
+import sanguine.strategy.PonderingStrategy;
 import sanguine.strategy.SanguineStrategy;
+import sanguine.strategy.SearchStatistics;
 import sanguine.view.FeaturesListener;
 
 /**
  * Represents a machine player in the game.
  * Uses a strategy to compute and execute moves when it is notified that it is its turn.
+ * By default the strategy runs on the thread that notifies the player. A player can instead
+ * search on an executor and play the move it found on another executor, such as the Swing event
+ * thread, so that a slow strategy doesn't freeze the view. The search runs on a copy of the game,
+ * and a search that is still running when the player is cancelled is interrupted and its move
+ * is never played, while a search that fails is reported on standard error and the player
+ * passes. Such a player also ponders on the search executor during the opponent's turns if its
+ * strategy is a {@link PonderingStrategy}.
  */
 public class MachinePlayer implements PlayerActions {
 
   private final SanguineStrategy strategy;
   private final Player playerColor;
   private final List<FeaturesListener> listeners;
+  private final List<MetricsListener> metricsListeners;
+  //runs searches, or null to search on the notifying thread.
+  private final ExecutorService searches;
+  //runs the listeners with the move found by a search.
+  private final Executor callbacks;
+  //counts turns and cancellations; a search only plays its move if it is still the latest.
+  private final AtomicLong generation;
+  private volatile Future<?> pending;
+  private volatile Future<?> pondering;
 
   /**
-   * Creates a MachinePlayer with the given strategy and color.
+   * Creates a MachinePlayer with the given strategy and color, which plays its move before
+   * returning from {@link #notifyTurn(ReadOnlySanguineModel)}.
    *
    * @param strategy the strategy to choose moves.
    * @param playerColor the color of this player.
    * @throws IllegalArgumentException if strategy or playerColor is null.
    */
   public MachinePlayer(SanguineStrategy strategy, Player playerColor) {
-    if (strategy == null || playerColor == null) {
-      throw new IllegalArgumentException("Strategy and player color cannot be null");
+    this(strategy, playerColor, null, Runnable::run);
+  }
+
+  /**
+   * Creates a MachinePlayer with the given strategy and color, which searches for its move on
+   * one executor and tells its listeners about the move on another.
+   *
+   * @param strategy    the strategy to choose moves.
+   * @param playerColor the color of this player.
+   * @param searches    the executor running the strategy, or null to run it on the thread
+   *                    notifying the player.
+   * @param callbacks   the executor telling the listeners about the chosen move, for example
+   *                    {@code SwingUtilities::invokeLater}.
+   * @throws IllegalArgumentException if strategy, playerColor or callbacks is null.
+   */
+  public MachinePlayer(SanguineStrategy strategy, Player playerColor, ExecutorService searches,
+                       Executor callbacks) {
+    if (strategy == null || playerColor == null || callbacks == null) {
+      throw new IllegalArgumentException("Strategy, player color and callbacks cannot be null");
     }
     this.strategy = strategy;
     this.playerColor = playerColor;
     this.listeners = new ArrayList<>();
+    this.metricsListeners = new CopyOnWriteArrayList<>();
+    this.searches = searches;
+    this.callbacks = callbacks;
+    this.generation = new AtomicLong();
   }
 
   @Override
@@ -42,10 +90,115 @@ public class MachinePlayer implements PlayerActions {
     }
   }
 
+  /**
+   * Subscribes a listener to the time this player takes for each move, from being notified of
+   * its turn until its move is played, including any wait for the executors. The search
+   * statistics of the strategy are included if it reports them.
+   *
+   * @param listener the listener to be notified of each decision.
+   */
+  public void subscribeMetrics(MetricsListener listener) {
+    if (listener != null) {
+      this.metricsListeners.add(listener);
+    }
+  }
+
   @Override
   public void notifyTurn(ReadOnlySanguineModel model) {
-    List<Move> moves = strategy.chooseMoves(model, playerColor);
+    stopPondering();
+    long turn = generation.incrementAndGet();
+    long start = System.nanoTime();
+    if (searches == null) {
+      List<Move> moves = strategy.chooseMoves(model, playerColor);
+      callbacks.execute(() -> play(model, moves, turn, start));
+      return;
+    }
+    //the game may be read on other threads while the strategy runs, but not changed
+    ReadOnlySanguineModel position;
+    try {
+      position = new BasicSanguineModel(model);
+    } catch (RuntimeException e) {
+      fail(model, e, turn, start);
+      return;
+    }
+    pending = searches.submit(() -> {
+      List<Move> moves;
+      try {
+        moves = strategy.chooseMoves(position, playerColor);
+      } catch (RuntimeException e) {
+        fail(model, e, turn, start);
+        return;
+      }
+      callbacks.execute(() -> play(model, moves, turn, start));
+    });
+  }
 
+  /**
+   * Ponders on the search executor if the strategy can ponder. Players searching on the thread
+   * that notifies them don't ponder, since that would keep the opponent from playing.
+   */
+  @Override
+  public void notifyOpponentTurn(ReadOnlySanguineModel model) {
+    if (searches == null || !(strategy instanceof PonderingStrategy ponderer)) {
+      return;
+    }
+    stopPondering();
+    ReadOnlySanguineModel position = new BasicSanguineModel(model);
+    pondering = searches.submit(() -> ponderer.ponder(position, playerColor));
+  }
+
+  /**
+   * Stops the search for the current move, if one is running, and makes sure its move is not
+   * played. Stops pondering as well.
+   */
+  @Override
+  public void cancel() {
+    stopPondering();
+    generation.incrementAndGet();
+    Future<?> search = pending;
+    if (search != null) {
+      search.cancel(true);
+    }
+  }
+
+  private void stopPondering() {
+    Future<?> ponder = pondering;
+    if (ponder != null) {
+      pondering = null;
+      ponder.cancel(true);
+    }
+  }
+
+  /**
+   * Reports that the strategy failed to choose a move and passes instead, so that the game goes
+   * on rather than waiting for a move that will never come.
+   */
+  private void fail(ReadOnlySanguineModel model, RuntimeException e, long turn, long start) {
+    callbacks.execute(() -> {
+      if (generation.get() == turn) {
+        System.err.println("Error: " + playerColor + " player could not choose a move, passing: "
+            + e);
+      }
+      play(model, List.of(), turn, start);
+    });
+  }
+
+  /**
+   * Tells the listeners about the chosen move, unless the turn it was chosen for was cancelled.
+   */
+  private void play(ReadOnlySanguineModel model, List<Move> moves, long turn, long start) {
+    if (generation.get() != turn) {
+      return;
+    }
+    pending = null;
+    if (!metricsListeners.isEmpty()) {
+      long nanos = System.nanoTime() - start;
+      SearchStatistics statistics =
+          strategy instanceof MeasuredStrategy measured ? measured.getLastStatistics() : null;
+      for (MetricsListener listener : metricsListeners) {
+        listener.onDecision(playerColor + " player", nanos, statistics);
+      }
+    }
     if (!moves.isEmpty()) {
       Move move = moves.getFirst();
       List<SanguineCard> hand = model.getHands(playerColor);
@@ -25,4 +25,21 @@ public interface PlayerActions {
    * @param model the current state of the game.
    */
   void notifyTurn(ReadOnlySanguineModel model);
+
+  /**
+   * Notifies the player that it is the other player's turn.
+   * For humans, this does nothing.
+   * For machines whose strategy can ponder, this starts thinking about the next move while
+   * waiting, until the player's own turn comes or it is cancelled.
+   *
+   * @param model the current state of the game.
+   */
+  void notifyOpponentTurn(ReadOnlySanguineModel model);
+
+  /**
+   * Tells the player that the move it is working on is no longer wanted, because the game ended
+   * or its window closed. For humans, this does nothing. For machines, this stops any search
+   * still running and makes sure its move is never played.
+   */
+  void cancel();
 }
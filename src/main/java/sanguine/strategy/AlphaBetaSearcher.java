@@ -0,0 +1,381 @@
+package sanguine.strategy;
+
+import java.util.List;
+import sanguine.model.BoardSnapshot;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineModel;
+
+/**
+ * Searches the game tree from the current position of a model with negamax and alpha-beta
+ * pruning. The search deepens one turn at a time until it runs out of time or reaches its depth
+ * limit, and answers with the best move of the deepest search it finished. Moves are played and
+ * taken back on the model with {@link SanguineModel#applyMove} and {@link SanguineModel#undoMove},
+ * so the model is left as it was found once the search returns.
+ *
+ * <p>Positions are scored for the player to move by the difference between the two players'
+ * scores, with a bonus of {@link #WIN_SCORE} for positions where the game is over, following the
+ * rules of {@code getScore} and {@code getWinner}. Results are kept in a transposition table and
+ * the best move stored for a position is tried first, followed by the placements of the most
+ * valuable cards and finally passing.
+ *
+ * <p>Deepening stops early once a search reached the end of the game on every line it followed,
+ * since its result is then exact. No search goes deeper than the longest game left: each turn
+ * either fills a cell or passes, and two passes in a row end the game.
+ */
+final class AlphaBetaSearcher {
+  /**
+   * Bonus added to (or taken from) the score difference when the game is over.
+   */
+  static final int WIN_SCORE = 1_000_000;
+  private static final int INFINITY = Integer.MAX_VALUE - 1;
+  //how many nodes are visited between two looks at the clock, minus one.
+  private static final int CHECK_MASK = 1023;
+  //keys distinguishing positions by how many turns in a row ended without changes, which the
+  //position hash does not cover but which decides whether passing ends the game.
+  private static final long[] NO_CHANGE_KEYS = {0L, 0x6E6F4348414E4731L, 0x6E6F4348414E4732L};
+
+  private final SanguineModel model;
+  private final TranspositionTable table;
+  private final int numRows;
+  private final int numCols;
+  private long deadline;
+  private boolean timed;
+  private boolean aborted;
+  //set by another thread to abandon the search.
+  private volatile boolean stopped;
+  private long nodes;
+  private long tableProbes;
+  private long tableHits;
+  private long cutoffs;
+  private int completedDepth;
+  private int score;
+  //whether the current iteration scored a position before the game was over.
+  private boolean horizon;
+
+  /**
+   * Creates a searcher playing on the given model.
+   *
+   * @param model the game to search, which the searcher plays moves on and takes them back.
+   * @param table the table to keep results in. It can be kept between searches.
+   */
+  AlphaBetaSearcher(SanguineModel model, TranspositionTable table) {
+    this.model = model;
+    this.table = table;
+    this.numRows = model.getNumRows();
+    this.numCols = model.getNumColumns();
+  }
+
+  /**
+   * Finds the best move for the player whose turn it is. The search to a depth of one turn is
+   * always finished, however long it takes.
+   *
+   * @param timeLimitNanos the time after which deeper searches are abandoned, in nanoseconds.
+   * @param maxDepth       the largest number of turns to look ahead.
+   * @return the best move found, {@link Move#PASS} if passing is best or the game is over.
+   */
+  Move search(long timeLimitNanos, int maxDepth) {
+    return search(timeLimitNanos, 1, maxDepth);
+  }
+
+  /**
+   * Finds the best move for the player whose turn it is, starting the iterative deepening at the
+   * given depth. Searchers sharing a table can start at different depths so that they do not all
+   * search the same positions at once. The first search is always finished unless
+   * {@link #stop()} is called.
+   *
+   * @param timeLimitNanos the time after which deeper searches are abandoned, in nanoseconds.
+   * @param startDepth     the depth of the first search, in turns.
+   * @param maxDepth       the largest number of turns to look ahead.
+   * @return the best move found, {@link Move#PASS} if passing is best, the game is over or the
+   *         search was stopped before finishing a depth.
+   */
+  Move search(long timeLimitNanos, int startDepth, int maxDepth) {
+    nodes = 0;
+    tableProbes = 0;
+    tableHits = 0;
+    cutoffs = 0;
+    completedDepth = 0;
+    score = 0;
+    aborted = false;
+    timed = false;
+    deadline = System.nanoTime() + timeLimitNanos;
+    if (model.isGameOver()) {
+      return Move.PASS;
+    }
+    Move best = Move.PASS;
+    int lastDepth = Math.min(maxDepth, maxTurnsLeft());
+    for (int depth = Math.min(startDepth, lastDepth); depth <= lastDepth; depth++) {
+      horizon = false;
+      Move found = searchRoot(depth, completedDepth == 0 ? 0 : encode(best));
+      if (aborted) {
+        break;
+      }
+      best = found;
+      completedDepth = depth;
+      timed = true;
+      if (!horizon || Math.abs(score) >= WIN_SCORE / 2 || System.nanoTime() - deadline > 0) {
+        break;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Makes the searcher, which may be searching on another thread, return as soon as possible
+   * with the result of the deepest search it finished. A stopped searcher stays stopped.
+   * Interrupting the searching thread has the same effect on its current search.
+   */
+  void stop() {
+    stopped = true;
+  }
+
+  /**
+   * Returns the number of positions visited by the last search.
+   *
+   * @return the number of nodes searched.
+   */
+  long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns what the last search did.
+   *
+   * @param elapsedNanos the time the search took, in nanoseconds.
+   * @return the statistics of the last search.
+   */
+  SearchStatistics getStatistics(long elapsedNanos) {
+    return new SearchStatistics(nodes, tableProbes, tableHits, cutoffs, 0, elapsedNanos);
+  }
+
+  /**
+   * Returns the depth of the deepest search finished by the last call to search.
+   *
+   * @return the completed depth, in turns.
+   */
+  int getCompletedDepth() {
+    return completedDepth;
+  }
+
+  /**
+   * Returns the score of the move returned by the last search, for the player who was to move.
+   *
+   * @return the score of the best move.
+   */
+  int getScore() {
+    return score;
+  }
+
+  /**
+   * Returns the most turns the game can last from the current position: a pass before each cell
+   * left without a card is filled, and two passes to end the game.
+   */
+  private int maxTurnsLeft() {
+    BoardSnapshot board = model.getSnapshot();
+    int openCells = 0;
+    for (int row = 0; row < numRows; row++) {
+      for (int col = 0; col < numCols; col++) {
+        if (board.getCard(row, col) == null) {
+          openCells++;
+        }
+      }
+    }
+    return 2 * openCells + 2;
+  }
+
+  private Move searchRoot(int depth, int previousBest) {
+    Move[] moves = orderedMoves(model, previousBest);
+    int alpha = -INFINITY;
+    Move best = moves[0];
+    for (Move move : moves) {
+      model.applyMove(move);
+      int value = -negamax(depth - 1, -INFINITY, -alpha);
+      model.undoMove();
+      if (aborted) {
+        return best;
+      }
+      if (value > alpha) {
+        alpha = value;
+        best = move;
+      }
+    }
+    score = alpha;
+    table.store(key(), alpha, depth, TranspositionTable.EXACT, encode(best));
+    return best;
+  }
+
+  private int negamax(int depth, int alpha, int beta) {
+    nodes++;
+    if ((nodes & CHECK_MASK) == 0
+        && (stopped || Thread.currentThread().isInterrupted()
+        || timed && System.nanoTime() - deadline > 0)) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (model.isGameOver()) {
+      return terminalScore();
+    }
+    if (depth == 0) {
+      horizon = true;
+      return scoreDifference();
+    }
+    long key = key();
+    long entry = table.probe(key);
+    tableProbes++;
+    int hashMove = 0;
+    if (entry != TranspositionTable.MISS) {
+      tableHits++;
+      hashMove = TranspositionTable.move(entry);
+      if (TranspositionTable.depth(entry) >= depth) {
+        int stored = TranspositionTable.score(entry);
+        int bound = TranspositionTable.bound(entry);
+        if (bound == TranspositionTable.EXACT
+            || bound == TranspositionTable.LOWER_BOUND && stored >= beta
+            || bound == TranspositionTable.UPPER_BOUND && stored <= alpha) {
+          //the stored search may have stopped before the end of the game
+          horizon = true;
+          return stored;
+        }
+      }
+    }
+
+    int originalAlpha = alpha;
+    int best = -INFINITY;
+    int bestMove = 0;
+    for (Move move : orderedMoves(model, hashMove)) {
+      model.applyMove(move);
+      int value = -negamax(depth - 1, -beta, -alpha);
+      model.undoMove();
+      if (aborted) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestMove = encode(move);
+        if (value > alpha) {
+          alpha = value;
+          if (alpha >= beta) {
+            cutoffs++;
+            break;
+          }
+        }
+      }
+    }
+    int bound;
+    if (best <= originalAlpha) {
+      bound = TranspositionTable.UPPER_BOUND;
+    } else if (best >= beta) {
+      bound = TranspositionTable.LOWER_BOUND;
+    } else {
+      bound = TranspositionTable.EXACT;
+    }
+    table.store(key, best, depth, bound, bestMove);
+    return best;
+  }
+
+  /**
+   * Returns the legal placements of the player to move followed by passing, with the move from
+   * the transposition table first and the other placements by decreasing card value.
+   *
+   * @param model    the game being searched.
+   * @param hashMove the encoded move to try first, 0 if there is none.
+   * @return the moves of the player to move, in the order to search them.
+   */
+  static Move[] orderedMoves(SanguineModel model, int hashMove) {
+    int numRows = model.getNumRows();
+    int numCols = model.getNumColumns();
+    Player player = model.getCurrPlayer();
+    List<Move> legal = model.getLegalMoves(player);
+    List<SanguineCard> hand = model.getHands(player);
+    Move[] moves = new Move[legal.size() + 1];
+    int[] keys = new int[moves.length];
+    for (int i = 0; i < legal.size(); i++) {
+      moves[i] = legal.get(i);
+      keys[i] = hand.get(moves[i].getCardInd()).getValue();
+    }
+    moves[legal.size()] = Move.PASS;
+    keys[legal.size()] = -1;
+    for (int i = 0; i < moves.length; i++) {
+      if (hashMove != 0 && encode(moves[i], numRows, numCols) == hashMove) {
+        keys[i] = Integer.MAX_VALUE;
+      }
+    }
+    //insertion sort by decreasing key, stable so ties keep the model's order
+    for (int i = 1; i < moves.length; i++) {
+      Move move = moves[i];
+      int moveKey = keys[i];
+      int j = i - 1;
+      while (j >= 0 && keys[j] < moveKey) {
+        moves[j + 1] = moves[j];
+        keys[j + 1] = keys[j];
+        j--;
+      }
+      moves[j + 1] = move;
+      keys[j + 1] = moveKey;
+    }
+    return moves;
+  }
+
+  private int encode(Move move) {
+    return encode(move, numRows, numCols);
+  }
+
+  /**
+   * Encodes the move as a positive int to store in a transposition table.
+   *
+   * @param move    the move to encode.
+   * @param numRows the number of rows of the board.
+   * @param numCols the number of columns of the board.
+   * @return 1 for passing, or a distinct number greater than 1 for every placement.
+   */
+  static int encode(Move move, int numRows, int numCols) {
+    if (move.isPass()) {
+      return 1;
+    }
+    return 2 + (move.getCardInd() * numRows + move.getRow()) * numCols + move.getCol();
+  }
+
+  private long key() {
+    return keyOf(model);
+  }
+
+  /**
+   * Returns the key of the current position of the model in a transposition table.
+   *
+   * @param model the game being searched.
+   * @return the position hash combined with the count of turns without changes.
+   */
+  static long keyOf(ReadOnlySanguineModel model) {
+    return model.getPositionHash() ^ NO_CHANGE_KEYS[Math.min(model.getTurnsWithoutChange(), 2)];
+  }
+
+  private int scoreDifference() {
+    return scoreDifference(model);
+  }
+
+  /**
+   * Returns by how much the player to move leads in score.
+   *
+   * @param model the game being searched.
+   * @return the score of the player to move minus the score of the other player.
+   */
+  static int scoreDifference(SanguineModel model) {
+    Player player = model.getCurrPlayer();
+    Player opponent = player == Player.RED ? Player.BLUE : Player.RED;
+    return model.getScore(player) - model.getScore(opponent);
+  }
+
+  private int terminalScore() {
+    int difference = scoreDifference();
+    if (difference > 0) {
+      return WIN_SCORE + difference;
+    } else if (difference < 0) {
+      return -WIN_SCORE + difference;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,149 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * The alpha-beta strategy looks ahead by playing out the following turns of both players on a
+ * copy of the game. It searches one turn deeper at a time until its time limit per move runs
+ * out, so it plays better the more time it is given. Results are kept in a transposition table
+ * shared by every move the strategy chooses in a game, and filled during the opponent's turns as
+ * well when the strategy is asked to ponder. The table is cleared when a new game starts, since it
+ * does not tell apart positions with different decks.
+ * The strategy only searches when it is the given player's turn, and passing is chosen by
+ * returning an empty list.
+ */
+public class AlphaBetaStrategy implements PonderingStrategy, MeasuredStrategy, TimedStrategy {
+  //2^20 slots, 16MB.
+  private static final int TABLE_SIZE_LOG2 = 20;
+
+  private final long timeLimitMillis;
+  private final int maxDepth;
+  private final TranspositionTable table;
+  private final GameTracker games;
+  //held while searching, since pondering and choosing a move share the table.
+  private final Object searchLock;
+  private volatile AlphaBetaSearcher ponderer;
+  //moves waiting for the lock, which pondering that has not started yet gives way to.
+  private final AtomicInteger waitingMoves;
+  private volatile SearchStatistics lastStatistics;
+
+  /**
+   * Creates an alpha-beta strategy that searches as deep as it can in the time limit.
+   *
+   * @param timeLimitMillis the time to spend on each move, in milliseconds.
+   * @throws IllegalArgumentException if the time limit is negative.
+   */
+  public AlphaBetaStrategy(long timeLimitMillis) {
+    this(timeLimitMillis, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates an alpha-beta strategy that searches as deep as it can in the time limit, but no
+   * deeper than the given number of turns.
+   *
+   * @param timeLimitMillis the time to spend on each move, in milliseconds.
+   * @param maxDepth        the largest number of turns to look ahead.
+   * @throws IllegalArgumentException if the time limit is negative or the depth not positive.
+   */
+  public AlphaBetaStrategy(long timeLimitMillis, int maxDepth) {
+    if (timeLimitMillis < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("Depth must be greater than 0");
+    }
+    this.timeLimitMillis = timeLimitMillis;
+    this.maxDepth = maxDepth;
+    this.table = new ArrayTranspositionTable(TABLE_SIZE_LOG2);
+    this.games = new GameTracker();
+    this.searchLock = new Object();
+    this.waitingMoves = new AtomicInteger();
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player) {
+    return chooseMoves(model, player, timeLimitMillis);
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player,
+                                long timeLimitMillis) {
+    if (timeLimitMillis < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    List<Move> moves = new ArrayList<>();
+    if (model.getCurrPlayer() != player || model.isGameOver()) {
+      return moves;
+    }
+    Move best;
+    waitingMoves.incrementAndGet();
+    try {
+      stopPondering();
+      synchronized (searchLock) {
+        if (games.isNewGame(model)) {
+          table.clear();
+        }
+        AlphaBetaSearcher searcher = new AlphaBetaSearcher(new BasicSanguineModel(model), table);
+        long start = System.nanoTime();
+        best = searcher.search(timeLimitMillis * 1_000_000L, maxDepth);
+        lastStatistics = searcher.getStatistics(System.nanoTime() - start);
+      }
+    } finally {
+      waitingMoves.decrementAndGet();
+    }
+    if (!best.isPass()) {
+      moves.add(best);
+    }
+    return moves;
+  }
+
+  @Override
+  public void ponder(ReadOnlySanguineModel model, Player player) {
+    if (model.getCurrPlayer() == player || model.isGameOver()) {
+      return;
+    }
+    synchronized (searchLock) {
+      if (games.isNewGame(model)) {
+        table.clear();
+      }
+      AlphaBetaSearcher searcher = new AlphaBetaSearcher(new BasicSanguineModel(model), table);
+      ponderer = searcher;
+      try {
+        //a move that missed this searcher when stopping pondering must not wait for it
+        if (waitingMoves.get() == 0) {
+          searcher.search(Long.MAX_VALUE, maxDepth);
+        }
+      } finally {
+        ponderer = null;
+      }
+    }
+  }
+
+  @Override
+  public void stopPondering() {
+    AlphaBetaSearcher searcher = ponderer;
+    if (searcher != null) {
+      searcher.stop();
+    }
+  }
+
+  /**
+   * Returns the search speed of the last move chosen by this strategy.
+   *
+   * @return the number of positions searched per second, 0 before the first search.
+   */
+  public double getNodesPerSecond() {
+    SearchStatistics statistics = lastStatistics;
+    return statistics == null ? 0 : statistics.getNodesPerSecond();
+  }
+
+  @Override
+  public SearchStatistics getLastStatistics() {
+    return lastStatistics;
+  }
+}
@@ -0,0 +1,53 @@
+package sanguine.strategy;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size transposition table for one thread. Each slot holds the full key of the position it
+ * was stored for and its packed result. A new result replaces the one in its slot unless the slot
+ * holds a deeper result for the same position.
+ */
+final class ArrayTranspositionTable implements TranspositionTable {
+  private final long[] keys;
+  private final long[] entries;
+  private final int mask;
+
+  /**
+   * Creates an empty table.
+   *
+   * @param sizeLog2 the base 2 logarithm of the number of slots.
+   * @throws IllegalArgumentException if the size is not between 1 and 2^28 slots.
+   */
+  ArrayTranspositionTable(int sizeLog2) {
+    if (sizeLog2 < 0 || sizeLog2 > 28) {
+      throw new IllegalArgumentException("Table size must be between 2^0 and 2^28");
+    }
+    this.keys = new long[1 << sizeLog2];
+    this.entries = new long[1 << sizeLog2];
+    this.mask = keys.length - 1;
+    clear();
+  }
+
+  @Override
+  public long probe(long key) {
+    int slot = (int) key & mask;
+    return keys[slot] == key ? entries[slot] : MISS;
+  }
+
+  @Override
+  public void store(long key, int score, int depth, int bound, int move) {
+    int slot = (int) key & mask;
+    if (keys[slot] == key && entries[slot] != MISS
+        && TranspositionTable.depth(entries[slot]) > depth) {
+      return;
+    }
+    keys[slot] = key;
+    entries[slot] = TranspositionTable.pack(score, depth, bound, move);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(keys, 0L);
+    Arrays.fill(entries, MISS);
+  }
+}
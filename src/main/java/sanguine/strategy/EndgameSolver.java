@@ -0,0 +1,230 @@
+package sanguine.strategy;
+
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.BoardSnapshot;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+
+/**
+ * Solves the end of a game exactly. Once few cells are left without a card and both hands are
+ * small, every line of play can be followed to the end of the game, so the solver finds the move
+ * with the best final score margin for the player to move against any reply. Since decks are drawn
+ * in order, the cards still to come are known and the result is exact.
+ * Positions already solved are remembered by position hash, with the result for the rest of the
+ * game, so the solver gets faster as the game goes on. The position hash does not cover the decks,
+ * which are only known to match within one game, so the solver forgets every position when it is
+ * given one from another game.
+ */
+public final class EndgameSolver {
+  //2^18 slots, 4MB.
+  private static final int TABLE_SIZE_LOG2 = 18;
+  private static final int INFINITY = Integer.MAX_VALUE - 1;
+  //how many nodes are visited between two looks at the clock, minus one.
+  private static final int CHECK_MASK = 1023;
+
+  private final int maxOpenCells;
+  private final int maxHandSize;
+  private final TranspositionTable table;
+  private final GameTracker games;
+  private SanguineModel model;
+  private long deadline;
+  private boolean aborted;
+  private long nodes;
+
+  /**
+   * Creates a solver for positions with at most the given number of cells without a card and
+   * cards in each hand.
+   *
+   * @param maxOpenCells the largest number of cells without a card to solve.
+   * @param maxHandSize  the largest number of cards in either hand to solve.
+   * @throws IllegalArgumentException if a threshold is negative.
+   */
+  public EndgameSolver(int maxOpenCells, int maxHandSize) {
+    if (maxOpenCells < 0 || maxHandSize < 0) {
+      throw new IllegalArgumentException("Thresholds can't be negative");
+    }
+    this.maxOpenCells = maxOpenCells;
+    this.maxHandSize = maxHandSize;
+    this.table = new ArrayTranspositionTable(TABLE_SIZE_LOG2);
+    this.games = new GameTracker();
+  }
+
+  /**
+   * Determines if the position is small enough for this solver.
+   *
+   * @param model the game to look at.
+   * @return true if the game is not over, and the cells without a card and the cards in each hand
+   *         are within the solver's thresholds.
+   */
+  public boolean isEndgame(ReadOnlySanguineModel model) {
+    if (model.isGameOver()
+        || model.getHands(Player.RED).size() > maxHandSize
+        || model.getHands(Player.BLUE).size() > maxHandSize) {
+      return false;
+    }
+    int openCells = 0;
+    BoardSnapshot board = model.getSnapshot();
+    for (int row = 0; row < board.getNumRows(); row++) {
+      for (int col = 0; col < board.getNumColumns(); col++) {
+        if (board.getCard(row, col) == null) {
+          openCells++;
+        }
+      }
+    }
+    return openCells <= maxOpenCells;
+  }
+
+  /**
+   * Solves the position for the player whose turn it is.
+   *
+   * @param model           the game to solve, which is not changed.
+   * @param timeLimitMillis the time after which the solver gives up, in milliseconds.
+   * @return the best move and the margin it guarantees, or null if the game is over or the
+   *         solver ran out of time or its thread was interrupted.
+   */
+  public Solution solve(ReadOnlySanguineModel model, long timeLimitMillis) {
+    if (model.isGameOver()) {
+      return null;
+    }
+    if (games.isNewGame(model)) {
+      table.clear();
+    }
+    this.model = new BasicSanguineModel(model);
+    this.deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+    this.aborted = false;
+    this.nodes = 0;
+
+    long entry = table.probe(AlphaBetaSearcher.keyOf(this.model));
+    int hashMove = entry == TranspositionTable.MISS ? 0 : TranspositionTable.move(entry);
+    int alpha = -INFINITY;
+    Move best = null;
+    for (Move move : AlphaBetaSearcher.orderedMoves(this.model, hashMove)) {
+      this.model.applyMove(move);
+      int value = -solve(-INFINITY, -alpha);
+      this.model.undoMove();
+      if (aborted) {
+        this.model = null;
+        return null;
+      }
+      if (best == null || value > alpha) {
+        alpha = value;
+        best = move;
+      }
+    }
+    table.store(AlphaBetaSearcher.keyOf(this.model), alpha, 0, TranspositionTable.EXACT,
+        AlphaBetaSearcher.encode(best, model.getNumRows(), model.getNumColumns()));
+    this.model = null;
+    return new Solution(best, alpha);
+  }
+
+  /**
+   * Forgets every position solved so far.
+   */
+  public void clear() {
+    table.clear();
+  }
+
+  /**
+   * Returns the number of positions visited by the last call to solve.
+   *
+   * @return the number of nodes searched.
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns the final margin of the current position for the player to move, assuming both
+   * players play perfectly, or a bound on it if it is outside of (alpha, beta).
+   */
+  private int solve(int alpha, int beta) {
+    nodes++;
+    if ((nodes & CHECK_MASK) == 0
+        && (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted())) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (model.isGameOver()) {
+      return AlphaBetaSearcher.scoreDifference(model);
+    }
+    long key = AlphaBetaSearcher.keyOf(model);
+    long entry = table.probe(key);
+    int hashMove = 0;
+    if (entry != TranspositionTable.MISS) {
+      hashMove = TranspositionTable.move(entry);
+      int stored = TranspositionTable.score(entry);
+      int bound = TranspositionTable.bound(entry);
+      if (bound == TranspositionTable.EXACT
+          || bound == TranspositionTable.LOWER_BOUND && stored >= beta
+          || bound == TranspositionTable.UPPER_BOUND && stored <= alpha) {
+        return stored;
+      }
+    }
+
+    int originalAlpha = alpha;
+    int best = -INFINITY;
+    int bestMove = 0;
+    for (Move move : AlphaBetaSearcher.orderedMoves(model, hashMove)) {
+      model.applyMove(move);
+      int value = -solve(-beta, -alpha);
+      model.undoMove();
+      if (aborted) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestMove = AlphaBetaSearcher.encode(move, model.getNumRows(), model.getNumColumns());
+        if (value > alpha) {
+          alpha = value;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    int bound;
+    if (best <= originalAlpha) {
+      bound = TranspositionTable.UPPER_BOUND;
+    } else if (best >= beta) {
+      bound = TranspositionTable.LOWER_BOUND;
+    } else {
+      bound = TranspositionTable.EXACT;
+    }
+    table.store(key, best, 0, bound, bestMove);
+    return best;
+  }
+
+  /**
+   * The result of solving a position: the best move and the final score margin it guarantees.
+   */
+  public static final class Solution {
+    private final Move move;
+    private final int margin;
+
+    private Solution(Move move, int margin) {
+      this.move = move;
+      this.margin = margin;
+    }
+
+    /**
+     * Returns the best move for the player to move.
+     *
+     * @return the best move, {@link Move#PASS} if passing is best.
+     */
+    public Move getMove() {
+      return move;
+    }
+
+    /**
+     * Returns the final score margin the best move guarantees against any reply.
+     *
+     * @return the score of the player to move minus the other player's at the end of the game.
+     */
+    public int getMargin() {
+      return margin;
+    }
+  }
+}
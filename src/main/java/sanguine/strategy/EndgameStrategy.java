@@ -0,0 +1,110 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * The endgame strategy plays like another strategy until the end of the game is near, and then
+ * plays perfectly. Once few cells are left without a card and both hands are small, it solves the
+ * game with an {@link EndgameSolver} and plays the move with the best final margin. If the solver
+ * cannot finish within its time, the other strategy chooses the move instead. The solver may use
+ * at most half of the time limit of a move, and a {@link TimedStrategy} falling back is given
+ * what is left of it, so that a move takes no longer than the limit either way.
+ */
+public class EndgameStrategy implements PonderingStrategy, MeasuredStrategy {
+  private final SanguineStrategy fallback;
+  private final EndgameSolver solver;
+  private final long timeLimitMillis;
+  //the statistics of the last move the solver chose, null if the fallback chose it.
+  private volatile SearchStatistics solverStatistics;
+
+  /**
+   * Creates an endgame strategy that solves positions with at most 6 cells without a card and
+   * 5 cards in each hand, within one second per move.
+   *
+   * @param fallback the strategy used before the endgame.
+   * @throws IllegalArgumentException if the strategy is null.
+   */
+  public EndgameStrategy(SanguineStrategy fallback) {
+    this(fallback, 6, 5, 1000);
+  }
+
+  /**
+   * Creates an endgame strategy with the given thresholds.
+   *
+   * @param fallback        the strategy used before the endgame or when solving takes too long.
+   * @param maxOpenCells    the largest number of cells without a card to solve.
+   * @param maxHandSize     the largest number of cards in either hand to solve.
+   * @param timeLimitMillis the time each move of the endgame may take, in milliseconds, half of
+   *                        which the solver may use.
+   * @throws IllegalArgumentException if the strategy is null or a number is negative.
+   */
+  public EndgameStrategy(SanguineStrategy fallback, int maxOpenCells, int maxHandSize,
+                         long timeLimitMillis) {
+    if (fallback == null) {
+      throw new IllegalArgumentException("Strategy can't be null");
+    }
+    if (timeLimitMillis < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    this.fallback = fallback;
+    this.solver = new EndgameSolver(maxOpenCells, maxHandSize);
+    this.timeLimitMillis = timeLimitMillis;
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player) {
+    solverStatistics = null;
+    if (model.getCurrPlayer() == player && solver.isEndgame(model)) {
+      stopPondering();
+      long start = System.nanoTime();
+      EndgameSolver.Solution solution = solver.solve(model, timeLimitMillis / 2);
+      if (solution != null) {
+        solverStatistics =
+            new SearchStatistics(solver.getNodes(), 0, 0, 0, 0, System.nanoTime() - start);
+        List<Move> moves = new ArrayList<>();
+        if (!solution.getMove().isPass()) {
+          moves.add(solution.getMove());
+        }
+        return moves;
+      }
+      if (fallback instanceof TimedStrategy timed) {
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        return timed.chooseMoves(model, player, Math.max(0, timeLimitMillis - elapsedMillis));
+      }
+    }
+    return fallback.chooseMoves(model, player);
+  }
+
+  /**
+   * Ponders with the other strategy, if it can ponder.
+   */
+  @Override
+  public void ponder(ReadOnlySanguineModel model, Player player) {
+    if (fallback instanceof PonderingStrategy pondering) {
+      pondering.ponder(model, player);
+    }
+  }
+
+  @Override
+  public void stopPondering() {
+    if (fallback instanceof PonderingStrategy pondering) {
+      pondering.stopPondering();
+    }
+  }
+
+  /**
+   * Returns the statistics of the solver if it chose the last move, or else those of the other
+   * strategy if it reports any.
+   */
+  @Override
+  public SearchStatistics getLastStatistics() {
+    SearchStatistics statistics = solverStatistics;
+    if (statistics == null && fallback instanceof MeasuredStrategy measured) {
+      return measured.getLastStatistics();
+    }
+    return statistics;
+  }
+}
@@ -46,7 +46,7 @@ public class FillFirst implements SanguineStrategy {
   private boolean isValidMove(ReadOnlySanguineModel model, SanguineCard card,
                               int row, int col) {
     try {
-      return model.canBePlaced(card, model.getBoard()[row][col]);
+      return model.canBePlaced(card, model.getElementAt(row, col));
     } catch (Exception e) {
       return false;
     }
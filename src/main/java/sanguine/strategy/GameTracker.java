@@ -0,0 +1,66 @@
+package sanguine.strategy;
+
+import java.util.List;
+import sanguine.model.BoardSnapshot;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineCard;
+
+/**
+ * Tells when the positions a strategy is given stop coming from the same game, so that results
+ * kept by position hash, which does not cover the decks, can be forgotten. Within a game the
+ * cards left in each deck are always the end of the cards left in it at any earlier position,
+ * and each player owns the same number of cards between the board, their hand and their deck. A
+ * position breaking either rule starts a new game. Positions keeping to both may still come from
+ * different games, but then every position reached from them has the same decks in both games,
+ * so the results can be shared.
+ */
+final class GameTracker {
+  private int numRows;
+  private int numCols;
+  //the decks and the cards owned by each player at the last position, null before the first.
+  private List<SanguineCard> redDeck;
+  private List<SanguineCard> blueDeck;
+  private int redCards;
+  private int blueCards;
+
+  /**
+   * Looks at the next position and tells whether it starts a new game.
+   *
+   * @param model the game a strategy is about to search.
+   * @return true if the position can't follow the last one in the same game, or is the first.
+   */
+  synchronized boolean isNewGame(ReadOnlySanguineModel model) {
+    List<SanguineCard> red = model.getDeck(Player.RED);
+    List<SanguineCard> blue = model.getDeck(Player.BLUE);
+    int redOwned = red.size() + model.getHands(Player.RED).size();
+    int blueOwned = blue.size() + model.getHands(Player.BLUE).size();
+    BoardSnapshot board = model.getSnapshot();
+    for (int row = 0; row < board.getNumRows(); row++) {
+      for (int col = 0; col < board.getNumColumns(); col++) {
+        SanguineCard card = board.getCard(row, col);
+        if (card != null && card.getOwner() == Player.RED) {
+          redOwned++;
+        } else if (card != null) {
+          blueOwned++;
+        }
+      }
+    }
+    boolean sameGame = redDeck != null
+        && numRows == board.getNumRows() && numCols == board.getNumColumns()
+        && redCards == redOwned && blueCards == blueOwned
+        && endsWith(redDeck, red) && endsWith(blueDeck, blue);
+    numRows = board.getNumRows();
+    numCols = board.getNumColumns();
+    redDeck = red;
+    blueDeck = blue;
+    redCards = redOwned;
+    blueCards = blueOwned;
+    return !sameGame;
+  }
+
+  private static boolean endsWith(List<SanguineCard> earlier, List<SanguineCard> later) {
+    return later.size() <= earlier.size()
+        && earlier.subList(earlier.size() - later.size(), earlier.size()).equals(later);
+  }
+}
@@ -0,0 +1,144 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * A multi-threaded version of the alpha-beta strategy. Several threads search the same position,
+ * each on its own copy of the game, and share one lock-free transposition table, so that each
+ * thread profits from the positions the others have already searched. Half of the helper threads
+ * start one turn deeper than the main thread, which spreads the threads over different parts of
+ * the tree. The move played is the one found by the main thread, which runs on the caller's
+ * thread; the helpers are stopped as soon as it returns. The table is kept between the moves of a
+ * game and cleared when a new game starts, since it does not tell apart positions with different
+ * decks.
+ * The strategy only searches when it is the given player's turn, and passing is chosen by
+ * returning an empty list.
+ */
+public class LazySmpStrategy implements MeasuredStrategy {
+  //2^20 slots, 16MB.
+  private static final int TABLE_SIZE_LOG2 = 20;
+
+  private final long timeLimitMillis;
+  private final int maxDepth;
+  private final int numThreads;
+  private final TranspositionTable table;
+  private final GameTracker games;
+  private volatile SearchStatistics lastStatistics;
+
+  /**
+   * Creates a strategy that searches with the given number of threads as deep as it can in the
+   * time limit.
+   *
+   * @param timeLimitMillis the time to spend on each move, in milliseconds.
+   * @param numThreads      the number of threads searching, including the caller's.
+   * @throws IllegalArgumentException if the time limit is negative or there are no threads.
+   */
+  public LazySmpStrategy(long timeLimitMillis, int numThreads) {
+    this(timeLimitMillis, Integer.MAX_VALUE, numThreads);
+  }
+
+  /**
+   * Creates a strategy that searches with the given number of threads as deep as it can in the
+   * time limit, but no deeper than the given number of turns.
+   *
+   * @param timeLimitMillis the time to spend on each move, in milliseconds.
+   * @param maxDepth        the largest number of turns to look ahead.
+   * @param numThreads      the number of threads searching, including the caller's.
+   * @throws IllegalArgumentException if the time limit is negative, or the depth or number of
+   *                                  threads not positive.
+   */
+  public LazySmpStrategy(long timeLimitMillis, int maxDepth, int numThreads) {
+    if (timeLimitMillis < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    if (maxDepth <= 0 || numThreads <= 0) {
+      throw new IllegalArgumentException("Depth and number of threads must be greater than 0");
+    }
+    this.timeLimitMillis = timeLimitMillis;
+    this.maxDepth = maxDepth;
+    this.numThreads = numThreads;
+    this.table = new SharedTranspositionTable(TABLE_SIZE_LOG2);
+    this.games = new GameTracker();
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player) {
+    List<Move> moves = new ArrayList<>();
+    if (model.getCurrPlayer() != player || model.isGameOver()) {
+      return moves;
+    }
+    if (games.isNewGame(model)) {
+      table.clear();
+    }
+    long timeLimitNanos = timeLimitMillis * 1_000_000L;
+    AlphaBetaSearcher[] searchers = new AlphaBetaSearcher[numThreads];
+    for (int i = 0; i < numThreads; i++) {
+      searchers[i] = new AlphaBetaSearcher(new BasicSanguineModel(model), table);
+    }
+
+    long start = System.nanoTime();
+    Thread[] helpers = new Thread[numThreads - 1];
+    for (int i = 1; i < numThreads; i++) {
+      AlphaBetaSearcher helper = searchers[i];
+      int startDepth = Math.min(1 + i % 2, maxDepth);
+      helpers[i - 1] = Thread.ofPlatform().daemon().name("sanguine-search-" + i)
+          .start(() -> helper.search(timeLimitNanos, startDepth, maxDepth));
+    }
+    Move best;
+    try {
+      best = searchers[0].search(timeLimitNanos, maxDepth);
+    } finally {
+      for (int i = 1; i < numThreads; i++) {
+        searchers[i].stop();
+      }
+    }
+    for (Thread helper : helpers) {
+      try {
+        helper.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+    SearchStatistics statistics = searchers[0].getStatistics(elapsed);
+    for (int i = 1; i < numThreads; i++) {
+      statistics = statistics.plus(searchers[i].getStatistics(elapsed));
+    }
+    lastStatistics = statistics;
+
+    if (!best.isPass()) {
+      moves.add(best);
+    }
+    return moves;
+  }
+
+  /**
+   * Returns the search speed of the last move chosen by this strategy, over all of its threads.
+   * Comparing strategies with different numbers of threads shows how the search scales.
+   *
+   * @return the number of positions searched per second, 0 before the first search.
+   */
+  public double getNodesPerSecond() {
+    SearchStatistics statistics = lastStatistics;
+    return statistics == null ? 0 : statistics.getNodesPerSecond();
+  }
+
+  @Override
+  public SearchStatistics getLastStatistics() {
+    return lastStatistics;
+  }
+
+  /**
+   * Returns the number of threads this strategy searches with.
+   *
+   * @return the number of threads, including the caller's.
+   */
+  public int getNumThreads() {
+    return numThreads;
+  }
+}
@@ -88,7 +88,7 @@ public class MaximizeRowScore implements SanguineStrategy {
   private boolean isValidMove(ReadOnlySanguineModel model, SanguineCard card,
                               int row, int col) {
     try {
-      SanguineElement element = model.getBoard()[row][col];
+      SanguineElement element = model.getElementAt(row, col);
       return model.canBePlaced(card, element);
     } catch (Exception e) {
       return false;
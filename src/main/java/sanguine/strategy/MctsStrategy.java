@@ -0,0 +1,140 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * The Monte Carlo tree search strategy plays out many random games from the current position and
+ * chooses the move that the search visited the most. The search is root-parallel: it grows several
+ * independent trees at once, each on its own copy of the game and with its own random numbers, and
+ * adds up the visits of their root moves. Since the trees share nothing, playouts per second grow
+ * with the number of threads of the pool running them.
+ * Every tree runs a fixed number of playouts and draws its random numbers from a seed derived from
+ * the strategy's seed and the position, so the same strategy chooses the same move for the same
+ * position however the trees are scheduled.
+ * The strategy only searches when it is the given player's turn, and passing is chosen by
+ * returning an empty list.
+ */
+public class MctsStrategy implements MeasuredStrategy {
+  private final int playoutsPerTree;
+  private final int numTrees;
+  private final long seed;
+  private final ForkJoinPool pool;
+  private volatile SearchStatistics lastStatistics;
+
+  /**
+   * Creates an MCTS strategy that grows one tree per available processor on the common pool.
+   *
+   * @param playoutsPerTree the number of playouts each tree runs per move.
+   * @param seed            the seed of the random playouts.
+   * @throws IllegalArgumentException if the number of playouts is not positive.
+   */
+  public MctsStrategy(int playoutsPerTree, long seed) {
+    this(playoutsPerTree, Runtime.getRuntime().availableProcessors(), seed,
+        ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates an MCTS strategy that grows the given number of trees on the given pool.
+   *
+   * @param playoutsPerTree the number of playouts each tree runs per move.
+   * @param numTrees        the number of independent trees grown per move.
+   * @param seed            the seed of the random playouts.
+   * @param pool            the pool running the trees, one task per tree.
+   * @throws IllegalArgumentException if a count is not positive or the pool is null.
+   */
+  public MctsStrategy(int playoutsPerTree, int numTrees, long seed, ForkJoinPool pool) {
+    if (playoutsPerTree <= 0 || numTrees <= 0) {
+      throw new IllegalArgumentException("Number of playouts and trees must be greater than 0");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool can't be null");
+    }
+    this.playoutsPerTree = playoutsPerTree;
+    this.numTrees = numTrees;
+    this.seed = seed;
+    this.pool = pool;
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player) {
+    List<Move> moves = new ArrayList<>();
+    if (model.getCurrPlayer() != player || model.isGameOver()) {
+      return moves;
+    }
+    //each tree gets its own copy of the game and its own stream of random numbers
+    SplittableRandom seeds = new SplittableRandom(seed ^ model.getPositionHash());
+    List<MctsTree> trees = new ArrayList<>();
+    List<Callable<MctsTree>> tasks = new ArrayList<>();
+    for (int i = 0; i < numTrees; i++) {
+      MctsTree tree = new MctsTree(new BasicSanguineModel(model), seeds.split());
+      trees.add(tree);
+      tasks.add(() -> {
+        tree.grow(playoutsPerTree);
+        return tree;
+      });
+    }
+
+    long start = System.nanoTime();
+    try {
+      for (Future<MctsTree> result : pool.invokeAll(tasks)) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return moves;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed", e.getCause());
+    }
+    long elapsed = Math.max(1, System.nanoTime() - start);
+    long nodes = 0;
+    long playouts = 0;
+    for (MctsTree tree : trees) {
+      nodes += tree.getNodes();
+      playouts += tree.getPlayouts();
+    }
+    lastStatistics = new SearchStatistics(nodes, 0, 0, 0, playouts, elapsed);
+
+    Move[] rootMoves = trees.getFirst().rootMoves();
+    long[] visits = new long[rootMoves.length];
+    for (MctsTree tree : trees) {
+      int[] treeVisits = tree.rootVisits();
+      for (int i = 0; i < visits.length; i++) {
+        visits[i] += treeVisits[i];
+      }
+    }
+    int best = 0;
+    for (int i = 1; i < visits.length; i++) {
+      if (visits[i] > visits[best]) {
+        best = i;
+      }
+    }
+    if (!rootMoves[best].isPass()) {
+      moves.add(rootMoves[best]);
+    }
+    return moves;
+  }
+
+  /**
+   * Returns the rate of the playouts of the last move chosen by this strategy, over all trees.
+   *
+   * @return the number of playouts per second of the last search, 0 before the first search.
+   */
+  public double getPlayoutsPerSecond() {
+    SearchStatistics statistics = lastStatistics;
+    return statistics == null ? 0 : statistics.getPlayoutsPerSecond();
+  }
+
+  @Override
+  public SearchStatistics getLastStatistics() {
+    return lastStatistics;
+  }
+}
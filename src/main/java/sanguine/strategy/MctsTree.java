@@ -0,0 +1,212 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+
+/**
+ * One Monte Carlo search tree grown from the current position of a model. Every iteration walks
+ * down the tree choosing children by UCT, adds one new node, finishes the game with random moves
+ * and credits the result to the nodes it walked through. Moves are played and taken back on the
+ * model, so the model is left as it was found after every iteration. A tree is used by one thread
+ * at a time; parallel searches grow one tree per thread on separate copies of the game.
+ */
+final class MctsTree {
+  //weight of the exploration term of UCT.
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private final SanguineModel model;
+  private final SplittableRandom random;
+  private final Player rootPlayer;
+  private final Node root;
+  //the nodes walked through by the current iteration.
+  private final List<Node> path;
+  private long playouts;
+  //the number of positions played through, in the tree and in playouts.
+  private long nodes;
+
+  /**
+   * Creates a tree with only its root, the current position of the model.
+   *
+   * @param model  the game to search, which the tree plays moves on and takes them back.
+   * @param random the source of the random choices of this tree.
+   */
+  MctsTree(SanguineModel model, SplittableRandom random) {
+    this.model = model;
+    this.random = random;
+    this.rootPlayer = model.getCurrPlayer();
+    this.root = new Node();
+    this.path = new ArrayList<>();
+  }
+
+  /**
+   * Runs the given number of iterations.
+   *
+   * @param iterations the number of playouts to add to the tree.
+   */
+  void grow(int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      iterate();
+    }
+  }
+
+  /**
+   * Returns the moves available at the root, in the order their visit counts are given by
+   * {@link #rootVisits()}. Trees grown from equal positions list the same moves in the same order.
+   *
+   * @return the moves of the player to move at the root.
+   */
+  Move[] rootMoves() {
+    root.expandMoves(model);
+    return root.moves.clone();
+  }
+
+  /**
+   * Returns how many iterations went through each of the moves of the root.
+   *
+   * @return the visit counts, in the order of {@link #rootMoves()}.
+   */
+  int[] rootVisits() {
+    root.expandMoves(model);
+    int[] visits = new int[root.moves.length];
+    for (int i = 0; i < visits.length; i++) {
+      visits[i] = root.children[i] == null ? 0 : root.children[i].visits;
+    }
+    return visits;
+  }
+
+  /**
+   * Returns the number of playouts run by this tree.
+   *
+   * @return the number of iterations run so far.
+   */
+  long getPlayouts() {
+    return playouts;
+  }
+
+  /**
+   * Returns the number of positions played through by this tree, in the tree and in playouts.
+   *
+   * @return the number of moves played so far.
+   */
+  long getNodes() {
+    return nodes;
+  }
+
+  private void iterate() {
+    path.clear();
+    Node node = root;
+    path.add(node);
+    int played = 0;
+    while (!model.isGameOver()) {
+      node.expandMoves(model);
+      int index;
+      if (node.tried < node.moves.length) {
+        index = node.tried++;
+        model.applyMove(node.moves[index]);
+        played++;
+        node.children[index] = new Node();
+        path.add(node.children[index]);
+        break;
+      }
+      index = selectChild(node);
+      model.applyMove(node.moves[index]);
+      played++;
+      node = node.children[index];
+      path.add(node);
+    }
+    played += playOut();
+    nodes += played;
+    double redResult = result();
+    for (int i = 0; i < played; i++) {
+      model.undoMove();
+    }
+    //each node is credited from the point of view of the player who moved into it
+    Player mover = rootPlayer;
+    for (int i = 1; i < path.size(); i++) {
+      Node visited = path.get(i);
+      visited.visits++;
+      visited.wins += mover == Player.RED ? redResult : 1 - redResult;
+      mover = opponent(mover);
+    }
+    root.visits++;
+    playouts++;
+  }
+
+  private int selectChild(Node node) {
+    double logVisits = Math.log(node.visits);
+    int best = 0;
+    double bestValue = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < node.children.length; i++) {
+      Node child = node.children[i];
+      double value = child.wins / child.visits
+          + EXPLORATION * Math.sqrt(logVisits / child.visits);
+      if (value > bestValue) {
+        bestValue = value;
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Finishes the game by placing random cards, passing only when no card can be placed.
+   *
+   * @return the number of moves played.
+   */
+  private int playOut() {
+    int played = 0;
+    while (!model.isGameOver()) {
+      List<Move> legal = model.getLegalMoves(model.getCurrPlayer());
+      model.applyMove(legal.isEmpty() ? Move.PASS : legal.get(random.nextInt(legal.size())));
+      played++;
+    }
+    return played;
+  }
+
+  /**
+   * Returns the result of the finished game for red: 1 for a win, 0.5 for a tie and 0 for a loss.
+   */
+  private double result() {
+    Player winner = model.getWinner();
+    if (winner == null) {
+      return 0.5;
+    }
+    return winner == Player.RED ? 1 : 0;
+  }
+
+  private static Player opponent(Player player) {
+    return player == Player.RED ? Player.BLUE : Player.RED;
+  }
+
+  /**
+   * A position in the tree.
+   */
+  private final class Node {
+    //the moves of the player to move, placements in shuffled order followed by passing.
+    private Move[] moves;
+    private Node[] children;
+    //the number of moves that have a child, which are the first ones of moves.
+    private int tried;
+    private int visits;
+    private double wins;
+
+    private void expandMoves(SanguineModel game) {
+      if (moves != null) {
+        return;
+      }
+      List<Move> legal = game.getLegalMoves(game.getCurrPlayer());
+      moves = new Move[legal.size() + 1];
+      for (int i = 0; i < legal.size(); i++) {
+        //the root keeps the model's order so that trees can be merged move by move
+        int j = this == root ? i : random.nextInt(i + 1);
+        moves[i] = moves[j];
+        moves[j] = legal.get(i);
+      }
+      moves[legal.size()] = Move.PASS;
+      children = new Node[moves.length];
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package sanguine.strategy;
+
+/**
+ * A strategy that reports what it did to choose its last move, so that its speed can be watched
+ * and compared.
+ */
+public interface MeasuredStrategy extends SanguineStrategy {
+
+  /**
+   * Returns the statistics of the last move chosen by this strategy. If the strategy is used by
+   * several threads at once, the statistics may belong to any of their last moves.
+   *
+   * @return the statistics of the last search, or null before the first.
+   */
+  SearchStatistics getLastStatistics();
+}
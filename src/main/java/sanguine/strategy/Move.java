@@ -5,6 +5,11 @@ package sanguine.strategy;
  * a specific location.
  */
 public class Move {
+  /**
+   * The move of passing the turn without placing a card.
+   */
+  public static final Move PASS = new Move(-1, -1, -1);
+
   private final int cardInd;
   private final int row;
   private final int col;
@@ -49,6 +54,15 @@ public class Move {
     return col;
   }
 
+  /**
+   * Determines if this move passes the turn instead of placing a card.
+   *
+   * @return true if this move is a pass.
+   */
+  public boolean isPass() {
+    return cardInd < 0;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
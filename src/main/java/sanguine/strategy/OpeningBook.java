@@ -0,0 +1,140 @@
+package sanguine.strategy;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineCard;
+
+/**
+ * A book of opening moves read from a file written by {@link OpeningBookBuilder}. The file is
+ * memory-mapped rather than read, so opening a book costs no heap and looking a position up only
+ * touches the pages of the file the binary search visits.
+ *
+ * <p>The file starts with a header of 24 bytes: the magic number {@code SGOB}, the format version,
+ * the number of rows and columns of the board and the number of entries. Entries follow, 16 bytes
+ * each and sorted by key: the key of the position, the hash code of the card to play and the row
+ * and column to play it on, or a row of -1 to pass. Cards are stored by hash code rather than hand
+ * index since the order of a hand is not part of the position. All numbers are big-endian.
+ */
+public final class OpeningBook {
+  static final int MAGIC = 0x53474F42;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 24;
+  static final int ENTRY_SIZE = 16;
+
+  private final MappedByteBuffer entries;
+  private final int numRows;
+  private final int numCols;
+  private final long size;
+
+  private OpeningBook(MappedByteBuffer entries, int numRows, int numCols, long size) {
+    this.entries = entries;
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.size = size;
+  }
+
+  /**
+   * Opens the book in the given file.
+   *
+   * @param path the book file.
+   * @return the book, mapped into memory.
+   * @throws IOException              if the file can't be read.
+   * @throws IllegalArgumentException if the file is not an opening book.
+   */
+  public static OpeningBook open(Path path) throws IOException {
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC
+        || buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException("Not an opening book: " + path);
+    }
+    long size = buffer.getLong(16);
+    if (size < 0 || HEADER_SIZE + size * ENTRY_SIZE != buffer.capacity()) {
+      throw new IllegalArgumentException("Truncated opening book: " + path);
+    }
+    return new OpeningBook(buffer, buffer.getInt(8), buffer.getInt(12), size);
+  }
+
+  /**
+   * Returns the number of positions in the book.
+   *
+   * @return the number of entries.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Looks up the move for the player whose turn it is.
+   *
+   * @param model the game to look up.
+   * @return the book move if the position is in the book and the move is legal, null otherwise.
+   */
+  public Move lookup(ReadOnlySanguineModel model) {
+    if (model.getNumRows() != numRows || model.getNumColumns() != numCols
+        || model.isGameOver()) {
+      return null;
+    }
+    long key = keyOf(model);
+    long low = 0;
+    long high = size - 1;
+    while (low <= high) {
+      long mid = (low + high) >>> 1;
+      int offset = (int) (HEADER_SIZE + mid * ENTRY_SIZE);
+      long midKey = entries.getLong(offset);
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return toMove(model, entries.getInt(offset + 8), entries.getShort(offset + 12),
+            entries.getShort(offset + 14));
+      }
+    }
+    return null;
+  }
+
+  private static Move toMove(ReadOnlySanguineModel model, int cardHash, int row, int col) {
+    if (row < 0) {
+      return Move.PASS;
+    }
+    Player player = model.getCurrPlayer();
+    List<SanguineCard> hand = model.getHands(player);
+    List<Move> legal = model.getLegalMoves(player);
+    for (int cardInd = 0; cardInd < hand.size(); cardInd++) {
+      Move move = new Move(cardInd, row, col);
+      if (hand.get(cardInd).hashCode() == cardHash && legal.contains(move)) {
+        return move;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the key of the position in a book. Unlike the position hash, the key covers the cards
+   * left in both decks, in order, so that a book built for some decks is never used with others.
+   *
+   * @param model the game.
+   * @return the key of its current position.
+   */
+  static long keyOf(ReadOnlySanguineModel model) {
+    long deckHash = 1;
+    for (Player player : Player.values()) {
+      for (SanguineCard card : model.getDeck(player)) {
+        deckHash = deckHash * 31 + card.hashCode();
+      }
+      deckHash = deckHash * 31 + player.ordinal();
+    }
+    return AlphaBetaSearcher.keyOf(model) ^ Long.rotateLeft(deckHash * 0x9E3779B97F4A7C15L, 17);
+  }
+}
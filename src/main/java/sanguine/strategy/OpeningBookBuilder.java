@@ -0,0 +1,119 @@
+package sanguine.strategy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+
+/**
+ * Builds opening books offline. Starting from the first turn of a game, every position reachable in the
+ * given number of turns is searched with alpha-beta for a fixed time, and the best move of each
+ * is written to a book file in the format read by {@link OpeningBook}.
+ */
+public final class OpeningBookBuilder {
+  //2^20 slots, 16MB.
+  private static final int TABLE_SIZE_LOG2 = 20;
+
+  private final long timeLimitNanos;
+  private final int maxDepth;
+  private final TranspositionTable table;
+
+  /**
+   * Creates a builder that searches every position of the book for the given time.
+   *
+   * @param timeLimitMillis the time to search each position, in milliseconds.
+   * @param maxDepth        the largest number of turns to look ahead from each position.
+   * @throws IllegalArgumentException if the time limit is negative or the depth not positive.
+   */
+  public OpeningBookBuilder(long timeLimitMillis, int maxDepth) {
+    if (timeLimitMillis < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("Depth must be greater than 0");
+    }
+    this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    this.maxDepth = maxDepth;
+    this.table = new ArrayTranspositionTable(TABLE_SIZE_LOG2);
+  }
+
+  /**
+   * Builds the book for the first turns of the game and writes it to the file.
+   *
+   * @param start the game whose opening is booked, as it is when the first turn starts: after
+   *              Red has drawn a card, as the controller and tournaments do. It is not changed.
+   * @param turns the number of turns covered by the book.
+   * @param path  the file to write, replaced if it exists.
+   * @return the number of positions in the book.
+   * @throws IOException              if the file can't be written.
+   * @throws IllegalArgumentException if the number of turns is negative.
+   */
+  public long build(ReadOnlySanguineModel start, int turns, Path path) throws IOException {
+    if (turns < 0) {
+      throw new IllegalArgumentException("Number of turns can't be negative");
+    }
+    SanguineModel game = new BasicSanguineModel(start);
+    Map<Long, long[]> book = new HashMap<>();
+    visit(game, turns, book);
+
+    long[] keys = new long[book.size()];
+    int i = 0;
+    for (long key : book.keySet()) {
+      keys[i++] = key;
+    }
+    Arrays.sort(keys);
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(OpeningBook.MAGIC);
+      out.writeInt(OpeningBook.VERSION);
+      out.writeInt(start.getNumRows());
+      out.writeInt(start.getNumColumns());
+      out.writeLong(keys.length);
+      for (long key : keys) {
+        long[] entry = book.get(key);
+        out.writeLong(key);
+        out.writeInt((int) entry[0]);
+        out.writeShort((int) entry[1]);
+        out.writeShort((int) entry[2]);
+      }
+    }
+    return keys.length;
+  }
+
+  /**
+   * Searches the current position if it is not in the book yet, then every position after it.
+   */
+  private void visit(SanguineModel game, int turns, Map<Long, long[]> book) {
+    if (turns == 0 || game.isGameOver()) {
+      return;
+    }
+    long key = OpeningBook.keyOf(game);
+    if (!book.containsKey(key)) {
+      Move best = new AlphaBetaSearcher(game, table).search(timeLimitNanos, maxDepth);
+      if (best.isPass()) {
+        book.put(key, new long[] {0, -1, -1});
+      } else {
+        int cardHash = game.getHands(game.getCurrPlayer()).get(best.getCardInd()).hashCode();
+        book.put(key, new long[] {cardHash, best.getRow(), best.getCol()});
+      }
+    }
+    Player player = game.getCurrPlayer();
+    List<Move> moves = new ArrayList<>(game.getLegalMoves(player));
+    moves.add(Move.PASS);
+    for (Move move : moves) {
+      game.applyMove(move);
+      visit(game, turns - 1, book);
+      game.undoMove();
+    }
+  }
+}
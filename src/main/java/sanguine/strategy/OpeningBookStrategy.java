@@ -0,0 +1,81 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * The opening book strategy plays the moves of an {@link OpeningBook} while the game is in the
+ * book, which takes no search time, and plays like another strategy afterwards.
+ */
+public class OpeningBookStrategy implements PonderingStrategy, MeasuredStrategy {
+  private final OpeningBook book;
+  private final SanguineStrategy fallback;
+  //the statistics of the last move found in the book, null if the fallback chose it.
+  private volatile SearchStatistics bookStatistics;
+
+  /**
+   * Creates a strategy playing from the book first.
+   *
+   * @param book     the opening book.
+   * @param fallback the strategy used for positions that are not in the book.
+   * @throws IllegalArgumentException if the book or strategy is null.
+   */
+  public OpeningBookStrategy(OpeningBook book, SanguineStrategy fallback) {
+    if (book == null || fallback == null) {
+      throw new IllegalArgumentException("Book and strategy can't be null");
+    }
+    this.book = book;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public List<Move> chooseMoves(ReadOnlySanguineModel model, Player player) {
+    bookStatistics = null;
+    if (model.getCurrPlayer() == player) {
+      long start = System.nanoTime();
+      Move move = book.lookup(model);
+      if (move != null) {
+        stopPondering();
+        bookStatistics = new SearchStatistics(0, 0, 0, 0, 0, System.nanoTime() - start);
+        List<Move> moves = new ArrayList<>();
+        if (!move.isPass()) {
+          moves.add(move);
+        }
+        return moves;
+      }
+    }
+    return fallback.chooseMoves(model, player);
+  }
+
+  /**
+   * Ponders with the other strategy, if it can ponder.
+   */
+  @Override
+  public void ponder(ReadOnlySanguineModel model, Player player) {
+    if (fallback instanceof PonderingStrategy pondering) {
+      pondering.ponder(model, player);
+    }
+  }
+
+  @Override
+  public void stopPondering() {
+    if (fallback instanceof PonderingStrategy pondering) {
+      pondering.stopPondering();
+    }
+  }
+
+  /**
+   * Returns empty statistics if the last move came from the book, or else those of the other
+   * strategy if it reports any.
+   */
+  @Override
+  public SearchStatistics getLastStatistics() {
+    SearchStatistics statistics = bookStatistics;
+    if (statistics == null && fallback instanceof MeasuredStrategy measured) {
+      return measured.getLastStatistics();
+    }
+    return statistics;
+  }
+}
@@ -0,0 +1,28 @@
+package sanguine.strategy;
+
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * A strategy that can think during the other player's turn. While the opponent is deciding, the
+ * strategy searches their likely moves and keeps what it learns, so that when its own turn comes
+ * it can reuse that work and search deeper in the same time.
+ */
+public interface PonderingStrategy extends SanguineStrategy {
+
+  /**
+   * Searches the game during the other player's turn until {@link #stopPondering()} is called,
+   * the calling thread is interrupted, or there is nothing left to learn. Does nothing if it is
+   * the given player's turn or the game is over.
+   *
+   * @param model  the state of the game, which is not changed.
+   * @param player the player this strategy will choose the next move for.
+   */
+  void ponder(ReadOnlySanguineModel model, Player player);
+
+  /**
+   * Makes a call to {@link #ponder(ReadOnlySanguineModel, Player)} running on another thread
+   * return as soon as possible. Choosing a move stops pondering as well.
+   */
+  void stopPondering();
+}
@@ -0,0 +1,135 @@
+package sanguine.strategy;
+
+/**
+ * What a strategy did to choose one move: the positions it searched, how often its transposition
+ * table already knew a position, how many branches it cut off and how many games it played out
+ * at random, and how long it took. Counts a strategy does not keep are 0.
+ */
+public final class SearchStatistics {
+  private final long nodes;
+  private final long tableProbes;
+  private final long tableHits;
+  private final long cutoffs;
+  private final long playouts;
+  private final long elapsedNanos;
+
+  /**
+   * Creates the statistics of a search.
+   *
+   * @param nodes        the number of positions searched.
+   * @param tableProbes  the number of times the transposition table was looked up.
+   * @param tableHits    the number of lookups that found the position.
+   * @param cutoffs      the number of positions whose remaining moves were skipped.
+   * @param playouts     the number of games played out at random.
+   * @param elapsedNanos the time the search took, in nanoseconds.
+   * @throws IllegalArgumentException if a count is negative or there are more hits than probes.
+   */
+  public SearchStatistics(long nodes, long tableProbes, long tableHits, long cutoffs,
+                          long playouts, long elapsedNanos) {
+    if (nodes < 0 || tableProbes < 0 || tableHits < 0 || cutoffs < 0 || playouts < 0
+        || elapsedNanos < 0 || tableHits > tableProbes) {
+      throw new IllegalArgumentException("Invalid search statistics");
+    }
+    this.nodes = nodes;
+    this.tableProbes = tableProbes;
+    this.tableHits = tableHits;
+    this.cutoffs = cutoffs;
+    this.playouts = playouts;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Combines these statistics with those of a search that ran at the same time, such as
+   * another thread of the same move.
+   *
+   * @param other the statistics of the other search.
+   * @return the total counts, over the longer of the two times.
+   */
+  public SearchStatistics plus(SearchStatistics other) {
+    return new SearchStatistics(nodes + other.nodes, tableProbes + other.tableProbes,
+        tableHits + other.tableHits, cutoffs + other.cutoffs, playouts + other.playouts,
+        Math.max(elapsedNanos, other.elapsedNanos));
+  }
+
+  /**
+   * Returns the number of positions searched.
+   *
+   * @return the number of nodes.
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns the number of times the transposition table was looked up.
+   *
+   * @return the number of probes.
+   */
+  public long getTableProbes() {
+    return tableProbes;
+  }
+
+  /**
+   * Returns the number of transposition table lookups that found the position.
+   *
+   * @return the number of hits.
+   */
+  public long getTableHits() {
+    return tableHits;
+  }
+
+  /**
+   * Returns the number of positions whose remaining moves were skipped because a move was
+   * already good enough.
+   *
+   * @return the number of cutoffs.
+   */
+  public long getCutoffs() {
+    return cutoffs;
+  }
+
+  /**
+   * Returns the number of games played out at random.
+   *
+   * @return the number of playouts.
+   */
+  public long getPlayouts() {
+    return playouts;
+  }
+
+  /**
+   * Returns the time the search took.
+   *
+   * @return the elapsed time, in nanoseconds.
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the share of transposition table lookups that found the position.
+   *
+   * @return the hit rate between 0 and 1, 0 if the table was never looked up.
+   */
+  public double getTableHitRate() {
+    return tableProbes == 0 ? 0 : (double) tableHits / tableProbes;
+  }
+
+  /**
+   * Returns the number of positions searched per second.
+   *
+   * @return the search speed, 0 if no time was measured.
+   */
+  public double getNodesPerSecond() {
+    return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns the number of games played out at random per second.
+   *
+   * @return the playout rate, 0 if no time was measured.
+   */
+  public double getPlayoutsPerSecond() {
+    return elapsedNanos == 0 ? 0 : playouts * 1e9 / elapsedNanos;
+  }
+}
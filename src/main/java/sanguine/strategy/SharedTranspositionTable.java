@@ -0,0 +1,60 @@
+package sanguine.strategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size transposition table that any number of threads can probe and store into at once
+ * without locking. Each slot is a pair of 64-bit words: the packed result, and the key of the
+ * position xor the packed result. A probe reads both words and only hits if xoring them gives back
+ * the key being looked up, so a slot torn by two threads writing at the same time reads as a miss
+ * instead of as a wrong result. Writes may be lost to races, which only costs search time.
+ */
+final class SharedTranspositionTable implements TranspositionTable {
+  //slot i is at 2i (key xor entry) and 2i + 1 (entry).
+  private final AtomicLongArray slots;
+  private final int mask;
+
+  /**
+   * Creates an empty table.
+   *
+   * @param sizeLog2 the base 2 logarithm of the number of slots.
+   * @throws IllegalArgumentException if the size is not between 1 and 2^28 slots.
+   */
+  SharedTranspositionTable(int sizeLog2) {
+    if (sizeLog2 < 0 || sizeLog2 > 28) {
+      throw new IllegalArgumentException("Table size must be between 2^0 and 2^28");
+    }
+    this.slots = new AtomicLongArray(2 << sizeLog2);
+    this.mask = (1 << sizeLog2) - 1;
+    clear();
+  }
+
+  @Override
+  public long probe(long key) {
+    int base = ((int) key & mask) << 1;
+    long entry = slots.getOpaque(base + 1);
+    long check = slots.getOpaque(base);
+    return (check ^ entry) == key && entry != MISS ? entry : MISS;
+  }
+
+  @Override
+  public void store(long key, int score, int depth, int bound, int move) {
+    int base = ((int) key & mask) << 1;
+    long old = slots.getOpaque(base + 1);
+    if (old != MISS && (slots.getOpaque(base) ^ old) == key
+        && TranspositionTable.depth(old) > depth) {
+      return;
+    }
+    long entry = TranspositionTable.pack(score, depth, bound, move);
+    slots.setOpaque(base, key ^ entry);
+    slots.setOpaque(base + 1, entry);
+  }
+
+  @Override
+  public void clear() {
+    for (int i = 0; i < slots.length(); i += 2) {
+      slots.setOpaque(i, 0L);
+      slots.setOpaque(i + 1, MISS);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package sanguine.strategy;
+
+import java.util.List;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * A strategy that spends a limited time on each move and can be given less than its usual limit
+ * for one move, for example when another strategy has already used part of the move's time.
+ */
+public interface TimedStrategy extends SanguineStrategy {
+
+  /**
+   * Chooses the moves to play as {@link #chooseMoves(ReadOnlySanguineModel, Player)} does, but
+   * within the given time rather than the strategy's own limit.
+   *
+   * @param model           the state of the game, which is not changed.
+   * @param player          the player to choose moves for.
+   * @param timeLimitMillis the time to spend on this move, in milliseconds.
+   * @return the moves to play, empty to pass.
+   * @throws IllegalArgumentException if the time limit is negative.
+   */
+  List<Move> chooseMoves(ReadOnlySanguineModel model, Player player, long timeLimitMillis);
+}
@@ -0,0 +1,80 @@
+package sanguine.strategy;
+
+/**
+ * A table of search results keyed by position hash. A result is packed in a long: the score, the
+ * depth it was searched to, whether the score is exact or a bound, and the best move found.
+ * A probe only hits for the position the result was stored for. Implementations decide how
+ * results replace each other and whether the table can be shared between threads.
+ */
+interface TranspositionTable {
+  /**
+   * Returned by {@link #probe(long)} when the table has no result for the position.
+   */
+  long MISS = -1L;
+  int EXACT = 0;
+  int LOWER_BOUND = 1;
+  int UPPER_BOUND = 2;
+
+  //layout of a packed entry: score in bits 0-31, depth in 32-39, bound in 40-41, move in 42-62.
+  //bit 63 is never set, so no entry equals MISS.
+  int DEPTH_SHIFT = 32;
+  int BOUND_SHIFT = 40;
+  int MOVE_SHIFT = 42;
+  long MOVE_MASK = (1L << 21) - 1;
+
+  /**
+   * Returns the result stored for the position.
+   *
+   * @param key the hash of the position.
+   * @return the packed result, or {@link #MISS} if there is none.
+   */
+  long probe(long key);
+
+  /**
+   * Stores the result of searching the position.
+   *
+   * @param key   the hash of the position.
+   * @param score the score of the position for the player to move.
+   * @param depth the depth the position was searched to.
+   * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}.
+   * @param move  the encoded best move, 0 if there is none.
+   */
+  void store(long key, int score, int depth, int bound, int move);
+
+  /**
+   * Empties every slot.
+   */
+  void clear();
+
+  /**
+   * Packs a result into an entry.
+   *
+   * @param score the score of the position.
+   * @param depth the depth searched, capped at 255.
+   * @param bound the kind of score.
+   * @param move  the encoded best move.
+   * @return the packed entry.
+   */
+  static long pack(int score, int depth, int bound, int move) {
+    return (score & 0xFFFFFFFFL)
+        | ((long) Math.min(depth, 255) << DEPTH_SHIFT)
+        | ((long) bound << BOUND_SHIFT)
+        | ((move & MOVE_MASK) << MOVE_SHIFT);
+  }
+
+  static int score(long entry) {
+    return (int) entry;
+  }
+
+  static int depth(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+  }
+
+  static int bound(long entry) {
+    return (int) (entry >>> BOUND_SHIFT) & 0x3;
+  }
+
+  static int move(long entry) {
+    return (int) ((entry >>> MOVE_SHIFT) & MOVE_MASK);
+  }
+}
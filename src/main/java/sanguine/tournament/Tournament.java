@@ -0,0 +1,198 @@
+package sanguine.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import sanguine.metrics.InstrumentedSanguineModel;
+import sanguine.metrics.MetricsListener;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineModel;
+import sanguine.model.ViewModel;
+import sanguine.strategy.Move;
+import sanguine.strategy.SanguineStrategy;
+
+/**
+ * Plays many games between two strategies without a view. Games are spread over a number of
+ * threads, and every game shuffles the decks with its own seed derived from the tournament's
+ * seed, so a tournament between deterministic strategies gives the same results for the same
+ * seed however many threads play it. The strategies take turns playing red, which moves first.
+ * Games are played as the controller plays them: red draws a card before the first turn, and
+ * every player draws a card at the start of their turn while their deck lasts.
+ */
+public final class Tournament {
+  private final int numRows;
+  private final int numCols;
+  private final int numHands;
+  private final List<SanguineCard> redDeck;
+  private final List<SanguineCard> blueDeck;
+
+  /**
+   * Creates a tournament on the given board with the given decks.
+   *
+   * @param numRows  the number of rows of the board.
+   * @param numCols  the number of columns of the board.
+   * @param numHands the number of cards in each hand at the start of a game.
+   * @param redDeck  the cards of red's deck, shuffled for every game.
+   * @param blueDeck the cards of blue's deck, shuffled for every game.
+   * @throws IllegalArgumentException if a deck is null or the decks can't be played on the board.
+   */
+  public Tournament(int numRows, int numCols, int numHands, List<SanguineCard> redDeck,
+                    List<SanguineCard> blueDeck) {
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("Decks can't be null");
+    }
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.numHands = numHands;
+    this.redDeck = List.copyOf(redDeck);
+    this.blueDeck = List.copyOf(blueDeck);
+    //fail now rather than in every game
+    new BasicSanguineModel(numRows, numCols).configureGame(numHands, redDeck, blueDeck, false);
+  }
+
+  /**
+   * Plays the given number of games between two strategies. Each game creates its own instances
+   * of the strategies, so strategies do not need to be thread-safe and carry nothing from one
+   * game to the next.
+   *
+   * @param first      creates the first strategy, which plays red in even-numbered games.
+   * @param second     creates the second strategy, which plays red in odd-numbered games.
+   * @param numGames   the number of games to play.
+   * @param numThreads the number of threads playing games.
+   * @param seed       the seed of the shuffles of the decks.
+   * @return the results, from the point of view of the first strategy.
+   * @throws IllegalArgumentException if a supplier is null or a count is not positive.
+   * @throws IllegalStateException    if a strategy throws an exception.
+   */
+  public TournamentResult run(Supplier<? extends SanguineStrategy> first,
+                              Supplier<? extends SanguineStrategy> second,
+                              int numGames, int numThreads, long seed) {
+    return run(first, second, numGames, numThreads, seed, null);
+  }
+
+  /**
+   * Plays the given number of games between two strategies, as
+   * {@link #run(Supplier, Supplier, int, int, long)} does, telling a metrics listener how long
+   * the moves take to apply to the games.
+   *
+   * @param first      creates the first strategy, which plays red in even-numbered games.
+   * @param second     creates the second strategy, which plays red in odd-numbered games.
+   * @param numGames   the number of games to play.
+   * @param numThreads the number of threads playing games.
+   * @param seed       the seed of the shuffles of the decks.
+   * @param metrics    the listener receiving the times of the model's operations, or null.
+   * @return the results, from the point of view of the first strategy.
+   * @throws IllegalArgumentException if a supplier is null or a count is not positive.
+   * @throws IllegalStateException    if a strategy throws an exception.
+   */
+  public TournamentResult run(Supplier<? extends SanguineStrategy> first,
+                              Supplier<? extends SanguineStrategy> second,
+                              int numGames, int numThreads, long seed, MetricsListener metrics) {
+    if (first == null || second == null) {
+      throw new IllegalArgumentException("Strategies can't be null");
+    }
+    if (numGames <= 0 || numThreads <= 0) {
+      throw new IllegalArgumentException("Number of games and threads must be greater than 0");
+    }
+    int threads = Math.min(numThreads, numGames);
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<TournamentResult>> parts = new ArrayList<>();
+      for (int worker = 0; worker < threads; worker++) {
+        int firstGame = worker;
+        parts.add(pool.submit(
+            () -> playGames(first, second, firstGame, threads, numGames, seed, metrics)));
+      }
+      TournamentResult total = new TournamentResult(0, 0, 0, 0, 0, 0);
+      for (Future<TournamentResult> part : parts) {
+        total = total.plus(part.get(), 0);
+      }
+      return total.plus(new TournamentResult(0, 0, 0, 0, 0, 0), System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Game failed: " + e.getCause(), e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays every game numbered from the first game in steps of the given stride, with new
+   * strategies for each game.
+   */
+  private TournamentResult playGames(Supplier<? extends SanguineStrategy> first,
+                                     Supplier<? extends SanguineStrategy> second, int firstGame,
+                                     int stride, int numGames, long seed,
+                                     MetricsListener metrics) {
+    int firstWins = 0;
+    int secondWins = 0;
+    long totalMargin = 0;
+    int[] illegalMoves = new int[1];
+    for (int game = firstGame; game < numGames; game += stride) {
+      Player firstColor = game % 2 == 0 ? Player.RED : Player.BLUE;
+      SanguineStrategy firstStrategy = first.get();
+      SanguineStrategy secondStrategy = second.get();
+      SanguineModel model = playGame(game % 2 == 0 ? firstStrategy : secondStrategy,
+          game % 2 == 0 ? secondStrategy : firstStrategy, gameSeed(seed, game), metrics,
+          illegalMoves);
+      Player secondColor = firstColor == Player.RED ? Player.BLUE : Player.RED;
+      Player winner = model.getWinner();
+      if (winner == firstColor) {
+        firstWins++;
+      } else if (winner == secondColor) {
+        secondWins++;
+      }
+      totalMargin += model.getScore(firstColor) - model.getScore(secondColor);
+    }
+    int games = (numGames - firstGame + stride - 1) / stride;
+    return new TournamentResult(games, firstWins, secondWins, totalMargin, illegalMoves[0], 0);
+  }
+
+  /**
+   * Plays one game to its end.
+   *
+   * @return the finished game.
+   */
+  private SanguineModel playGame(SanguineStrategy red, SanguineStrategy blue, long seed,
+                                 MetricsListener metrics, int[] illegalMoves) {
+    SanguineModel model = new BasicSanguineModel(numRows, numCols, new Random(seed));
+    if (metrics != null) {
+      model = new InstrumentedSanguineModel(model, metrics);
+    }
+    model.configureGame(numHands, redDeck, blueDeck, true);
+    ReadOnlySanguineModel view = new ViewModel(model);
+    if (!model.getDeck(Player.RED).isEmpty()) {
+      model.drawCard();
+    }
+    while (!model.isGameOver()) {
+      Player player = model.getCurrPlayer();
+      List<Move> moves = (player == Player.RED ? red : blue).chooseMoves(view, player);
+      Move move = moves.isEmpty() ? Move.PASS : moves.getFirst();
+      try {
+        model.applyMove(move);
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        illegalMoves[0]++;
+        model.applyMove(Move.PASS);
+      }
+    }
+    return model;
+  }
+
+  private static long gameSeed(long seed, int game) {
+    long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,174 @@
+package sanguine.tournament;
+
+/**
+ * The results of a tournament between two strategies, called first and second, with statistics
+ * from the point of view of the first. Results of parts of a tournament can be combined.
+ */
+public final class TournamentResult {
+  private final int games;
+  private final int firstWins;
+  private final int secondWins;
+  private final long totalMargin;
+  private final int illegalMoves;
+  private final long elapsedNanos;
+
+  /**
+   * Creates the results of a tournament.
+   *
+   * @param games        the number of games played.
+   * @param firstWins    the number of games won by the first strategy.
+   * @param secondWins   the number of games won by the second strategy.
+   * @param totalMargin  the sum over all games of the first strategy's score minus the second's.
+   * @param illegalMoves the number of illegal moves chosen by either strategy, played as passes.
+   * @param elapsedNanos the time the tournament took, in nanoseconds.
+   * @throws IllegalArgumentException if a count is negative or the wins exceed the games.
+   */
+  public TournamentResult(int games, int firstWins, int secondWins, long totalMargin,
+                          int illegalMoves, long elapsedNanos) {
+    if (games < 0 || firstWins < 0 || secondWins < 0 || illegalMoves < 0 || elapsedNanos < 0
+        || firstWins + secondWins > games) {
+      throw new IllegalArgumentException("Invalid tournament results");
+    }
+    this.games = games;
+    this.firstWins = firstWins;
+    this.secondWins = secondWins;
+    this.totalMargin = totalMargin;
+    this.illegalMoves = illegalMoves;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Combines the games of this result with those of another part of the same tournament.
+   *
+   * @param other        the results of the other games.
+   * @param elapsedNanos the time the combined games took, in nanoseconds.
+   * @return the results of all of the games.
+   */
+  public TournamentResult plus(TournamentResult other, long elapsedNanos) {
+    return new TournamentResult(games + other.games, firstWins + other.firstWins,
+        secondWins + other.secondWins, totalMargin + other.totalMargin,
+        illegalMoves + other.illegalMoves, elapsedNanos);
+  }
+
+  /**
+   * Returns the number of games played.
+   *
+   * @return the number of games.
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of games won by the first strategy.
+   *
+   * @return the first strategy's wins.
+   */
+  public int getFirstWins() {
+    return firstWins;
+  }
+
+  /**
+   * Returns the number of games won by the second strategy.
+   *
+   * @return the second strategy's wins.
+   */
+  public int getSecondWins() {
+    return secondWins;
+  }
+
+  /**
+   * Returns the number of games that ended in a tie.
+   *
+   * @return the number of draws.
+   */
+  public int getDraws() {
+    return games - firstWins - secondWins;
+  }
+
+  /**
+   * Returns the number of illegal moves chosen by either strategy.
+   *
+   * @return the number of moves that were played as passes because they were illegal.
+   */
+  public int getIllegalMoves() {
+    return illegalMoves;
+  }
+
+  /**
+   * Returns the share of points won by the first strategy, counting a draw as half a win.
+   *
+   * @return the first strategy's score rate between 0 and 1, 0.5 if no games were played.
+   */
+  public double getFirstScoreRate() {
+    if (games == 0) {
+      return 0.5;
+    }
+    return (firstWins + 0.5 * getDraws()) / games;
+  }
+
+  /**
+   * Returns the average final score margin of the first strategy over the second.
+   *
+   * @return the average margin per game, 0 if no games were played.
+   */
+  public double getAverageMargin() {
+    return games == 0 ? 0 : (double) totalMargin / games;
+  }
+
+  /**
+   * Estimates how much stronger the first strategy is than the second on the Elo scale, from the
+   * first strategy's score rate.
+   *
+   * @return the estimated Elo difference, infinite if one strategy won every game.
+   */
+  public double getEloDifference() {
+    return elo(getFirstScoreRate());
+  }
+
+  /**
+   * Returns the half width of the 95% confidence interval of {@link #getEloDifference()}, from
+   * the variance of the per-game results.
+   *
+   * @return the margin of error of the Elo estimate, infinite if it can't be estimated.
+   */
+  public double getEloErrorMargin() {
+    double rate = getFirstScoreRate();
+    if (games < 2 || rate <= 0 || rate >= 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double variance = (firstWins * Math.pow(1 - rate, 2) + getDraws() * Math.pow(0.5 - rate, 2)
+        + secondWins * Math.pow(rate, 2)) / (games - 1);
+    double deviation = 1.96 * Math.sqrt(variance / games);
+    return (elo(Math.min(rate + deviation, 1)) - elo(Math.max(rate - deviation, 0))) / 2;
+  }
+
+  /**
+   * Returns the rate at which games were played.
+   *
+   * @return the number of games per second of wall-clock time.
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  private static double elo(double rate) {
+    if (rate <= 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    if (rate >= 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return -400 * Math.log10(1 / rate - 1);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("games: %d, first wins: %d, second wins: %d, draws: %d%n"
+            + "first score rate: %.1f%%, average margin: %+.2f%n"
+            + "Elo difference: %+.0f +/- %.0f%n"
+            + "illegal moves: %d, games per second: %.1f",
+        games, firstWins, secondWins, getDraws(), 100 * getFirstScoreRate(), getAverageMargin(),
+        getEloDifference(), getEloErrorMargin(), illegalMoves, getGamesPerSecond());
+  }
+}
@@ -33,5 +33,10 @@ public interface FeaturesListener {
    * Reacts after a key press indicating the player wants to pass.
    */
   void onPass();
+
+  /**
+   * Reacts after the user closes the window.
+   */
+  void onClose();
 }
 
@@ -4,6 +4,8 @@ import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -25,7 +27,8 @@ public class JFrameView extends JFrame implements IView {
 
   /**
    * Constructs a JFrameView object. During this time it sets the panel sizes, and adds a
-   * keyListener to this component. Enter confirms a move and Space passes the turn.
+   * keyListener to this component. Enter confirms a move and Space passes the turn. Closing
+   * the window tells the listeners before the program exits.
    *
    * @param model  the readonly the model will be reading information from.
    * @param player the player who this view displays content for.
@@ -64,6 +67,14 @@ public class JFrameView extends JFrame implements IView {
         }
       }
     });
+    addWindowListener(new WindowAdapter() {
+      @Override
+      public void windowClosing(WindowEvent e) {
+        for (FeaturesListener listener : allListeners) {
+          listener.onClose();
+        }
+      }
+    });
     setFocusable(true);
   }
 
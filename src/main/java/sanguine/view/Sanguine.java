@@ -7,7 +7,6 @@ import sanguine.controller.SanguineController;
 import sanguine.model.BasicSanguineModel;
 import sanguine.model.Player;
 import sanguine.model.SanguineCard;
-import sanguine.model.SanguineElement;
 import sanguine.model.SanguineModel;
 import sanguine.player.HumanPlayer;
 import sanguine.player.PlayerActions;
@@ -122,9 +121,8 @@ public class Sanguine {
    * @return true if the card was placed and false if it could not be placed.
    */
   private static boolean tryPlaceCard(SanguineModel model) {
-    SanguineElement[][] board = model.getBoard();
-    int rows = board.length;
-    int cols = board[0].length;
+    int rows = model.getNumRows();
+    int cols = model.getNumColumns();
 
     for (int cardIndex = 0; cardIndex < 10; cardIndex++) {
       for (int row = 0; row < rows; row++) {
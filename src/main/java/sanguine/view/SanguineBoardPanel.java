@@ -11,6 +11,7 @@ import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.List;
 import javax.swing.JPanel;
+import sanguine.model.BoardSnapshot;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
 import sanguine.model.SanguineCard;
@@ -77,6 +78,7 @@ public class SanguineBoardPanel extends JPanel implements BoardPanel {
 
     int numRows = model.getNumRows();
     int numColumns = model.getNumColumns() + 2;
+    BoardSnapshot board = model.getSnapshot();
 
     int cellWidth = getWidth() / numColumns;
     int cellHeight = getHeight() / numRows;
@@ -101,7 +103,7 @@ public class SanguineBoardPanel extends JPanel implements BoardPanel {
             g.setColor(Color.CYAN);
             g.fillRect(xcoord, ycoord, cellWidth, cellHeight);
           }
-          SanguineElement el = model.getBoard()[row][col - 1];
+          SanguineElement el = board.getElementAt(row, col - 1);
           g.setColor(Color.DARK_GRAY);
           g.fillRect(xcoord + 2, ycoord + 2, cellWidth - 4, cellHeight - 3);
           if (el instanceof SanguineCard) {                       //determine what element is
@@ -1,9 +1,8 @@
 package sanguine.view;
 
-import sanguine.model.BasicSanguineCard;
-import sanguine.model.BasicSanguinePawnCluster;
+import sanguine.model.BoardSnapshot;
 import sanguine.model.Player;
-import sanguine.model.SanguineElement;
+import sanguine.model.SanguineCard;
 import sanguine.model.SanguineModel;
 
 /**
@@ -27,12 +26,12 @@ public class TextualView {
    * @throws NullPointerException if the model is null.
    */
   public String render(SanguineModel model) {
-    SanguineElement[][] board = model.getBoard();
+    BoardSnapshot board = model.getSnapshot();
     StringBuilder output = new StringBuilder();
 
-    for (int row = 0; row < board.length; row++) {
+    for (int row = 0; row < board.getNumRows(); row++) {
       output.append(renderRow(model, board, row));
-      if (row < board.length - 1) {
+      if (row < board.getNumRows() - 1) {
         output.append("\n");
       }
     }
@@ -44,19 +43,19 @@ public class TextualView {
    * Calculates the row scores for the players.
    *
    * @param model the model being rendered.
-   * @param board 2d array representing the board.
+   * @param board snapshot of the board.
    * @param row   the index of the row to render.
    * @return a string showing the row with scores.
    */
-  private String renderRow(SanguineModel model, SanguineElement[][] board, int row) {
+  private String renderRow(SanguineModel model, BoardSnapshot board, int row) {
     int redScore = model.sumOfVals(row, Player.RED);
     int blueScore = model.sumOfVals(row, Player.BLUE);
 
     StringBuilder rowString = new StringBuilder();
     rowString.append(redScore).append(" ");
 
-    for (int col = 0; col < board[row].length; col++) {
-      rowString.append(renderCell(board[row][col]));
+    for (int col = 0; col < board.getNumColumns(); col++) {
+      rowString.append(renderCell(board, row, col));
     }
 
     rowString.append(" ").append(blueScore);
@@ -70,16 +69,17 @@ public class TextualView {
    * If it is a pawn cluster: 1-3 (number of pawns).
    * If it is a card: R for red and B for blue.
    *
-   * @param element the board element
+   * @param board snapshot of the board.
+   * @param row   the row of the cell.
+   * @param col   the column of the cell.
    * @return a character string representing the cell.
    */
-  private String renderCell(SanguineElement element) {
-    if (element == null) {
-      return "_";
-    } else if (element instanceof BasicSanguinePawnCluster) {
-      return String.valueOf(((BasicSanguinePawnCluster) element).getNumPawns());
-    } else if (element instanceof BasicSanguineCard card) {
+  private String renderCell(BoardSnapshot board, int row, int col) {
+    SanguineCard card = board.getCard(row, col);
+    if (card != null) {
       return card.toString();
+    } else if (board.getNumPawns(row, col) > 0) {
+      return String.valueOf(board.getNumPawns(row, col));
     }
     return "_";
   }
@@ -2,6 +2,7 @@ package sanguine;
 
 import java.util.List;
 import sanguine.model.*;
+import sanguine.strategy.Move;
 
 /**
  * Mock model that logs which methods are used. It returns 5 for the number of hands,
@@ -63,6 +64,16 @@ public class MockModelLogsMethods implements SanguineModel {
     log.append("switchPlayer()\n");
   }
 
+  @Override
+  public void applyMove(Move move) {
+    log.append("applyMove(").append(move).append(")\n");
+  }
+
+  @Override
+  public void undoMove() {
+    log.append("undoMove()\n");
+  }
+
   @Override
   public void subscribe(ModelListener listener) {
     log.append("subscribe(").append(listener).append(")\n");
@@ -79,6 +90,18 @@ public class MockModelLogsMethods implements SanguineModel {
     return new SanguineElement[0][0];
   }
 
+  @Override
+  public BoardSnapshot getSnapshot() {
+    log.append("getSnapshot()\n");
+    return BoardSnapshot.of(new SanguineElement[3][5]);
+  }
+
+  @Override
+  public SanguineElement getElementAt(int row, int col) {
+    log.append("getElementAt(").append(row).append(", ").append(col).append(")\n");
+    return null;
+  }
+
   @Override
   public int getNumHands() {
     log.append("getNumHands()\n");
@@ -144,4 +167,22 @@ public class MockModelLogsMethods implements SanguineModel {
     log.append("canBePlaced(").append(card).append(", ").append(elem).append(")\n");
     return false;
   }
+
+  @Override
+  public List<Move> getLegalMoves(Player player) {
+    log.append("getLegalMoves(").append(player).append(")\n");
+    return List.of();
+  }
+
+  @Override
+  public long getPositionHash() {
+    log.append("getPositionHash()\n");
+    return 0;
+  }
+
+  @Override
+  public int getTurnsWithoutChange() {
+    log.append("getTurnsWithoutChange()\n");
+    return 0;
+  }
 }
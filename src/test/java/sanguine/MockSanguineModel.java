@@ -5,10 +5,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import sanguine.model.BoardSnapshot;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
 import sanguine.model.SanguineCard;
 import sanguine.model.SanguineElement;
+import sanguine.strategy.Move;
 
 /**
  * Mock clas that records a transcript of the method calls to verify
@@ -74,6 +76,27 @@ public class MockSanguineModel implements ReadOnlySanguineModel {
     return new SanguineElement[numRows][numCols];
   }
 
+  @Override
+  public BoardSnapshot getSnapshot() {
+    try {
+      log.append("getSnapshot").append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return BoardSnapshot.of(new SanguineElement[Math.max(numRows, 1)][numCols]);
+  }
+
+  @Override
+  public SanguineElement getElementAt(int row, int col) {
+    try {
+      log.append("getElementAt").append(String.valueOf(row)).append(" col")
+          .append(String.valueOf(col)).append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return null;
+  }
+
   @Override
   public int getNumHands() {
     try {
@@ -200,4 +223,34 @@ public class MockSanguineModel implements ReadOnlySanguineModel {
     }
     return false;
   }
+
+  @Override
+  public List<Move> getLegalMoves(Player player) {
+    try {
+      log.append("getLegalMoves ").append(player.toString()).append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return new ArrayList<>();
+  }
+
+  @Override
+  public long getPositionHash() {
+    try {
+      log.append("getPositionHash").append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return 0;
+  }
+
+  @Override
+  public int getTurnsWithoutChange() {
+    try {
+      log.append("getTurnsWithoutChange").append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return 0;
+  }
 }
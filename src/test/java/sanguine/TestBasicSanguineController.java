@@ -12,12 +12,26 @@ import sanguine.model.BasicSanguineCard;
 import sanguine.model.BasicSanguineModel;
 import sanguine.model.Influence;
 import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
 import sanguine.model.SanguineCard;
 import sanguine.model.SanguineModel;
 import sanguine.player.HumanPlayer;
+import sanguine.player.MachinePlayer;
+import sanguine.strategy.FillFirst;
+import sanguine.strategy.Move;
+import sanguine.strategy.PonderingStrategy;
+import sanguine.strategy.SanguineStrategy;
+import sanguine.view.FeaturesListener;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class TestBasicSanguineController {
@@ -229,4 +243,191 @@ public class TestBasicSanguineController {
     List<SanguineCard> deck = controller.createDeck("docs\\example.decks", Player.RED);
     List<SanguineCard> deck2 = controller.createDeck("docs\\example.decks", Player.BLUE);
   }
+
+  @Test
+  public void testMachinePlayersPlayWholeGameWithFlatStack() {
+    SanguineModel model = new BasicSanguineModel(5, 7);
+    List<SanguineCard> redDeck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> blueDeck = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, redDeck, blueDeck, false);
+    List<Integer> depths = new ArrayList<>();
+    SanguineStrategy strategy = (m, player) -> {
+      depths.add(Thread.currentThread().getStackTrace().length);
+      return new FillFirst().chooseMoves(m, player);
+    };
+    StringBuilder redLog = new StringBuilder();
+    StringBuilder blueLog = new StringBuilder();
+    new BasicSanguineController(new MockViewLogsMethods(redLog),
+        new MachinePlayer(strategy, Player.RED), Player.RED).playGame(model);
+    new BasicSanguineController(new MockViewLogsMethods(blueLog),
+        new MachinePlayer(strategy, Player.BLUE), Player.BLUE).playGame(model);
+
+    model.startGame();
+
+    assertTrue(model.isGameOver());
+    assertTrue(depths.size() > 10);
+    assertEquals(1, depths.stream().distinct().count());
+    assertEquals(1, redLog.toString().split("Game over", -1).length - 1);
+    assertEquals(1, blueLog.toString().split("Game over", -1).length - 1);
+  }
+
+  @Test
+  public void testAsyncMachinePlayerPlaysOnCallbackExecutor() throws InterruptedException {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(5, deck, deck, false);
+    BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+    ExecutorService searches = Executors.newSingleThreadExecutor();
+    MachinePlayer player =
+        new MachinePlayer(new FillFirst(), Player.RED, searches, callbacks::add);
+    StringBuilder moves = new StringBuilder();
+    player.subscribe(new LoggingListener(moves));
+
+    player.notifyTurn(model);
+    Runnable callback = callbacks.poll(10, TimeUnit.SECONDS);
+
+    assertEquals("", moves.toString());
+    callback.run();
+    assertEquals("card 0\nboard 0 1\nconfirm\n", moves.toString());
+    searches.shutdown();
+  }
+
+  @Test
+  public void testCancelledMachinePlayerInterruptsSearchAndNeverPlays()
+      throws InterruptedException {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(5, deck, deck, false);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    SanguineStrategy slow = (m, player) -> {
+      started.countDown();
+      try {
+        Thread.sleep(60_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return new FillFirst().chooseMoves(m, player);
+    };
+    BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+    ExecutorService searches = Executors.newSingleThreadExecutor();
+    MachinePlayer player = new MachinePlayer(slow, Player.RED, searches, callbacks::add);
+    StringBuilder moves = new StringBuilder();
+    player.subscribe(new LoggingListener(moves));
+
+    player.notifyTurn(model);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    player.cancel();
+
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    searches.shutdown();
+    assertTrue(searches.awaitTermination(10, TimeUnit.SECONDS));
+    for (Runnable callback : callbacks) {
+      callback.run();
+    }
+    assertEquals("", moves.toString());
+  }
+
+  @Test
+  public void testAsyncMachinePlayerPassesWhenStrategyFails() throws InterruptedException {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(5, deck, deck, false);
+    SanguineStrategy broken = (m, player) -> {
+      throw new IllegalStateException("Strategy is broken");
+    };
+    BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+    ExecutorService searches = Executors.newSingleThreadExecutor();
+    MachinePlayer player = new MachinePlayer(broken, Player.RED, searches, callbacks::add);
+    StringBuilder moves = new StringBuilder();
+    player.subscribe(new LoggingListener(moves));
+
+    player.notifyTurn(model);
+    Runnable callback = callbacks.poll(10, TimeUnit.SECONDS);
+    searches.shutdown();
+
+    assertNotNull(callback);
+    callback.run();
+    assertEquals("pass\n", moves.toString());
+  }
+
+  @Test
+  public void testMachinePlayerPondersDuringOpponentTurn() throws InterruptedException {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(5, deck, deck, false);
+    CountDownLatch pondering = new CountDownLatch(1);
+    CountDownLatch stopped = new CountDownLatch(1);
+    PonderingStrategy strategy = new PonderingStrategy() {
+      @Override
+      public void ponder(ReadOnlySanguineModel m, Player player) {
+        pondering.countDown();
+        try {
+          Thread.sleep(60_000);
+        } catch (InterruptedException e) {
+          stopped.countDown();
+        }
+      }
+
+      @Override
+      public void stopPondering() {
+      }
+
+      @Override
+      public List<Move> chooseMoves(ReadOnlySanguineModel m, Player player) {
+        return new FillFirst().chooseMoves(m, player);
+      }
+    };
+    BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+    ExecutorService searches = Executors.newCachedThreadPool();
+    MachinePlayer player = new MachinePlayer(strategy, Player.BLUE, searches, callbacks::add);
+    StringBuilder moves = new StringBuilder();
+    player.subscribe(new LoggingListener(moves));
+
+    player.notifyOpponentTurn(model);
+    assertTrue(pondering.await(10, TimeUnit.SECONDS));
+    model.switchPlayer();
+    player.notifyTurn(model);
+
+    assertTrue(stopped.await(10, TimeUnit.SECONDS));
+    callbacks.poll(10, TimeUnit.SECONDS).run();
+    assertEquals("card 0\nboard 0 1\nconfirm\n", moves.toString());
+    searches.shutdown();
+  }
+
+  /**
+   * Records the actions a player takes.
+   */
+  private static class LoggingListener implements FeaturesListener {
+    private final StringBuilder log;
+
+    LoggingListener(StringBuilder log) {
+      this.log = log;
+    }
+
+    @Override
+    public void onBoardClick(int row, int col) {
+      log.append("board ").append(row).append(' ').append(col).append('\n');
+    }
+
+    @Override
+    public void onCardClick(int index, SanguineCard card) {
+      log.append("card ").append(index).append('\n');
+    }
+
+    @Override
+    public void onConfirm() {
+      log.append("confirm\n");
+    }
+
+    @Override
+    public void onPass() {
+      log.append("pass\n");
+    }
+
+    @Override
+    public void onClose() {
+      log.append("close\n");
+    }
+  }
 }
@@ -0,0 +1,251 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.Test;
+import sanguine.controller.BasicSanguineController;
+import sanguine.model.BasicInfluence;
+import sanguine.model.CompiledDeck;
+import sanguine.model.DeckFormatException;
+import sanguine.model.DeckParser;
+import sanguine.model.DeckRepository;
+import sanguine.model.Player;
+import sanguine.model.SanguineCard;
+
+/**
+ * Tests reading deck files.
+ */
+public class TestDeckParser {
+  private static final String SECURITY = "Security 1 2\nXXXXX\nXXIXX\nXICXX\nXXIXX\nXXXXX\n";
+
+  @Test
+  public void testParsesExampleDeck() throws IOException {
+    List<SanguineCard> deck = new DeckParser(Player.RED).parse(Path.of("docs", "example.deck"));
+
+    assertEquals(35, deck.size());
+    assertEquals("Security", deck.getFirst().getName());
+    assertEquals(1, deck.getFirst().getCost());
+    assertEquals(1, deck.getFirst().getValue());
+    assertSame(BasicInfluence.ONE_PAWN, deck.getFirst().getInfluenceGrid()[1][2]);
+  }
+
+  @Test
+  public void testMirrorsBlueCards() throws IOException {
+    SanguineCard red = parse(SECURITY, Player.RED).getFirst();
+    SanguineCard blue = parse(SECURITY, Player.BLUE).getFirst();
+
+    assertSame(BasicInfluence.ONE_PAWN, red.getInfluenceGrid()[2][1]);
+    assertNull(red.getInfluenceGrid()[2][3]);
+    assertSame(BasicInfluence.ONE_PAWN, blue.getInfluenceGrid()[2][3]);
+    assertNull(blue.getInfluenceGrid()[2][1]);
+    assertEquals(Player.BLUE, blue.getOwner());
+  }
+
+  @Test
+  public void testSkipsBlankLinesBetweenCards() throws IOException {
+    assertEquals(2, parse("\n" + SECURITY + "\n  \n" + SECURITY + "\n", Player.RED).size());
+  }
+
+  @Test
+  public void testParsesCardsCostingNothing() throws IOException {
+    SanguineCard card = parse("Pawn 0 1\nXXXXX\nXXXXX\nXICXX\nXXXXX\nXXXXX\n", Player.RED)
+        .getFirst();
+
+    assertEquals(0, card.getCost());
+    assertEquals(1, card.getValue());
+  }
+
+  @Test
+  public void testReportsLineOfProblem() {
+    assertError("<deck>:1: cost must be a whole number but is 'one'",
+        "Security one 2\nXXXXX\nXXIXX\nXICXX\nXXIXX\nXXXXX\n");
+    assertError("<deck>:7: cost of Queen must be from 0 to 3 but is 4",
+        SECURITY + "Queen 4 1\n");
+    assertError("<deck>:1: cost of Queen must be from 0 to 3 but is -1",
+        "Queen -1 1\n");
+    assertError("<deck>:3: influence row must have 5 cells but has 4",
+        "Security 1 2\nXXXXX\nXXIX\n");
+    assertError("<deck>:4: center cell must be 'C' but is 'I'",
+        "Security 1 2\nXXXXX\nXXIXX\nXIIXX\n");
+    assertError("<deck>:2: unknown cell 'O' at column 1, expected 'X', 'I' or 'C'",
+        "Security 1 2\nOXXXX\n");
+    assertError("<deck>:9: file ends after 2 of the 5 influence rows of Queen",
+        SECURITY + "Queen 1 1\nXXXXX\nXXIXX\n");
+    assertError("<deck>:1: expected '<name> <cost> <value>' but found 'Security 1'",
+        "Security 1\n");
+  }
+
+  @Test
+  public void testMissingFileGivesEmptyDeck() {
+    assertThrows(IOException.class,
+        () -> new DeckParser(Player.RED).parse(Path.of("docs", "missing.deck")));
+    assertEquals(0, BasicSanguineController.readDeck("docs\\missing.deck", Player.RED).size());
+  }
+
+  @Test
+  public void testStreamsLargeCatalogs() throws IOException {
+    int cards = 200_000;
+    Reader catalog = new Reader() {
+      private int position;
+
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        int total = cards * SECURITY.length();
+        if (position == total) {
+          return -1;
+        }
+        int n = Math.min(length, total - position);
+        for (int i = 0; i < n; i++) {
+          buffer[offset + i] = SECURITY.charAt((position + i) % SECURITY.length());
+        }
+        position += n;
+        return n;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    long[] totalValue = new long[1];
+
+    long read = new DeckParser(Player.RED).forEachCard("catalog", catalog,
+        card -> totalValue[0] += card.getValue());
+
+    assertEquals(cards, read);
+    assertEquals(2L * cards, totalValue[0]);
+  }
+
+  @Test
+  public void testCompiledDeckMatchesParsedDeck() throws IOException {
+    Path deckFile = Path.of("docs", "example.deck");
+    Path compiled = compile(deckFile);
+
+    CompiledDeck deck = CompiledDeck.open(compiled);
+
+    assertEquals(35, deck.size());
+    for (Player owner : Player.values()) {
+      List<SanguineCard> parsed = new DeckParser(owner).parse(deckFile);
+      assertEquals(parsed, deck.getCards(owner));
+      for (int i = 0; i < parsed.size(); i++) {
+        assertEquals(parsed.get(i).hashCode(), deck.getCards(owner).get(i).hashCode());
+      }
+    }
+    assertSame(deck.getCards(Player.RED).get(3), deck.getCards(Player.RED).get(3));
+  }
+
+  @Test
+  public void testReadDeckLoadsCompiledDecks() throws IOException {
+    Path compiled = compile(Path.of("docs", "example.deck"));
+
+    assertTrue(CompiledDeck.isCompiled(compiled));
+    assertFalse(CompiledDeck.isCompiled(Path.of("docs", "example.deck")));
+    assertEquals(new DeckParser(Player.BLUE).parse(Path.of("docs", "example.deck")),
+        BasicSanguineController.readDeck(compiled.toString(), Player.BLUE));
+  }
+
+  @Test
+  public void testRejectsFilesThatAreNotCompiledDecks() throws IOException {
+    assertThrows(IllegalArgumentException.class,
+        () -> CompiledDeck.open(Path.of("docs", "example.deck")));
+    Path compiled = compile(Path.of("docs", "example.deck"));
+    Path truncated = Files.createTempFile("sanguine", ".cdeck");
+    truncated.toFile().deleteOnExit();
+    byte[] bytes = Files.readAllBytes(compiled);
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+    assertThrows(IllegalArgumentException.class, () -> CompiledDeck.open(truncated));
+  }
+
+  @Test
+  public void testCompilingReplacesFileOnlyOnceComplete() throws IOException {
+    Path compiled = compile(Path.of("docs", "example.deck"));
+    CompiledDeck before = CompiledDeck.open(compiled);
+    Path deckFile = Files.createTempFile("sanguine", ".deck");
+    deckFile.toFile().deleteOnExit();
+    Files.writeString(deckFile, SECURITY);
+
+    assertEquals(1, CompiledDeck.compile(deckFile, compiled));
+    Files.writeString(deckFile, SECURITY + "Queen 4 1\n");
+    assertThrows(DeckFormatException.class, () -> CompiledDeck.compile(deckFile, compiled));
+
+    //the deck mapped before keeps its cards, and the failed compile left the file as it was
+    assertEquals(35, before.getCards(Player.RED).size());
+    assertEquals(new DeckParser(Player.RED).parse(Path.of("docs", "example.deck")),
+        before.getCards(Player.RED));
+    assertEquals(1, CompiledDeck.open(compiled).size());
+    try (Stream<Path> files = Files.list(compiled.toAbsolutePath().getParent())) {
+      String prefix = compiled.getFileName().toString();
+      assertFalse(files.anyMatch(file -> file.getFileName().toString().startsWith(prefix)
+          && file.getFileName().toString().endsWith(".tmp")));
+    }
+  }
+
+  @Test
+  public void testRepositoryReadsEachFileOnce() throws IOException {
+    DeckRepository decks = new DeckRepository();
+    Path deckFile = Path.of("docs", "example.deck");
+
+    List<SanguineCard> red = decks.getDeck(deckFile, Player.RED);
+    List<SanguineCard> blue = decks.getDeck(deckFile, Player.BLUE);
+
+    assertEquals(new DeckParser(Player.RED).parse(deckFile), red);
+    assertEquals(new DeckParser(Player.BLUE).parse(deckFile), blue);
+    assertSame(red, decks.getDeck(deckFile.toAbsolutePath(), Player.RED));
+    assertSame(blue, decks.getDeck(deckFile, Player.BLUE));
+    assertEquals(1, decks.size());
+    assertThrows(UnsupportedOperationException.class, () -> red.remove(0));
+  }
+
+  @Test
+  public void testRepositoryReadsChangedFilesAgain() throws IOException {
+    DeckRepository decks = new DeckRepository();
+    Path deckFile = Files.createTempFile("sanguine", ".deck");
+    deckFile.toFile().deleteOnExit();
+    Files.writeString(deckFile, SECURITY);
+    List<SanguineCard> before = decks.getDeck(deckFile, Player.RED);
+
+    Files.writeString(deckFile, SECURITY + SECURITY);
+    Files.setLastModifiedTime(deckFile,
+        FileTime.fromMillis(Files.getLastModifiedTime(deckFile).toMillis() + 2000));
+
+    assertEquals(1, before.size());
+    assertEquals(2, decks.getDeck(deckFile, Player.RED).size());
+    assertEquals(2, decks.getDeck(deckFile, Player.BLUE).size());
+  }
+
+  private static Path compile(Path deckFile) throws IOException {
+    Path compiled = Files.createTempFile("sanguine", ".cdeck");
+    //mapped files can't be deleted on every platform while the deck is in use
+    compiled.toFile().deleteOnExit();
+    assertEquals(35, CompiledDeck.compile(deckFile, compiled));
+    return compiled;
+  }
+
+  private static List<SanguineCard> parse(String text, Player owner) throws IOException {
+    List<SanguineCard> deck = new ArrayList<>();
+    new DeckParser(owner).forEachCard("<deck>", new StringReader(text), deck::add);
+    return deck;
+  }
+
+  private static void assertError(String message, String text) {
+    DeckFormatException e = assertThrows(DeckFormatException.class,
+        () -> parse(text, Player.RED));
+    assertEquals(message, e.getMessage());
+    assertEquals("<deck>", e.getSource());
+  }
+}
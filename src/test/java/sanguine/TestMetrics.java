@@ -0,0 +1,104 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import sanguine.controller.BasicSanguineController;
+import sanguine.metrics.InstrumentedSanguineModel;
+import sanguine.metrics.InstrumentedStrategy;
+import sanguine.metrics.LatencyHistogram;
+import sanguine.metrics.MetricsRecorder;
+import sanguine.model.BasicSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineModel;
+import sanguine.strategy.AlphaBetaStrategy;
+import sanguine.strategy.FillFirst;
+import sanguine.strategy.Move;
+import sanguine.strategy.SearchStatistics;
+
+/**
+ * Tests the measurements of strategies and models.
+ */
+public class TestMetrics {
+  private SanguineModel model;
+
+  /**
+   * Sets up tests by starting a game with the example deck.
+   */
+  @Before
+  public void setUp() {
+    List<SanguineCard> redDeck = BasicSanguineController.readDeck("docs\\example.deck",
+        Player.RED);
+    List<SanguineCard> blueDeck = BasicSanguineController.readDeck("docs\\example.deck",
+        Player.BLUE);
+    model = new BasicSanguineModel(3, 5);
+    model.configureGame(5, redDeck, blueDeck, false);
+  }
+
+  @Test
+  public void testHistogramPercentilesAreWithinFactorOfTwo() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(50_500, histogram.getMeanNanos(), 1e-9);
+    assertEquals(100_000, histogram.getMaxNanos());
+    long median = histogram.getPercentileNanos(0.5);
+    assertTrue(median >= 50_000 && median < 100_000);
+    assertEquals(100_000, histogram.getPercentileNanos(1));
+    assertEquals(0, new LatencyHistogram().getPercentileNanos(0.99));
+  }
+
+  @Test
+  public void testInstrumentedStrategyReportsDecisionsOnItsTurnOnly() {
+    MetricsRecorder recorder = new MetricsRecorder();
+    InstrumentedStrategy strategy =
+        new InstrumentedStrategy("search", new AlphaBetaStrategy(1000, 2), recorder);
+
+    List<Move> moves = strategy.chooseMoves(model, Player.RED);
+    strategy.chooseMoves(model, Player.BLUE);
+
+    assertEquals(1, moves.size());
+    assertEquals(1, recorder.getDecisionLatencies("search").getCount());
+    SearchStatistics totals = recorder.getSearchTotals("search");
+    assertNotNull(totals);
+    assertTrue(totals.getNodes() > 0);
+    assertTrue(totals.getTableHits() <= totals.getTableProbes());
+    assertTrue(recorder.summary().startsWith("decide search: 1, "));
+  }
+
+  @Test
+  public void testInstrumentedStrategyWithoutStatistics() {
+    MetricsRecorder recorder = new MetricsRecorder();
+    new InstrumentedStrategy("fill", new FillFirst(), recorder).chooseMoves(model, Player.RED);
+
+    assertEquals(1, recorder.getDecisionLatencies("fill").getCount());
+    assertNull(recorder.getSearchTotals("fill"));
+  }
+
+  @Test
+  public void testInstrumentedModelReportsOperations() {
+    MetricsRecorder recorder = new MetricsRecorder();
+    SanguineModel instrumented = new InstrumentedSanguineModel(model, recorder);
+
+    instrumented.placeCard(0, 0, 0);
+    instrumented.switchPlayer();
+    instrumented.applyMove(Move.PASS);
+    instrumented.undoMove();
+
+    assertEquals(Player.BLUE, model.getCurrPlayer());
+    assertEquals(1, recorder.getOperationLatencies("placeCard").getCount());
+    assertEquals(1, recorder.getOperationLatencies("switchPlayer").getCount());
+    assertEquals(1, recorder.getOperationLatencies("applyMove").getCount());
+    assertEquals(1, recorder.getOperationLatencies("undoMove").getCount());
+    assertNull(recorder.getOperationLatencies("drawCard"));
+  }
+}
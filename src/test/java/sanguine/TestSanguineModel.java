@@ -2,11 +2,17 @@ package sanguine;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.Test;
 import sanguine.controller.BasicSanguineController;
 import sanguine.controller.SanguineController;
@@ -14,6 +20,8 @@ import sanguine.model.BasicInfluence;
 import sanguine.model.BasicSanguineCard;
 import sanguine.model.BasicSanguineModel;
 import sanguine.model.BasicSanguinePawnCluster;
+import sanguine.model.BoardSnapshot;
+import sanguine.model.DeckValidator;
 import sanguine.model.Influence;
 import sanguine.model.PawnClusterSize;
 import sanguine.model.Player;
@@ -22,6 +30,7 @@ import sanguine.model.SanguineElement;
 import sanguine.model.SanguineModel;
 import sanguine.model.SanguinePawnCluster;
 import sanguine.player.HumanPlayer;
+import sanguine.strategy.Move;
 import sanguine.view.JFrameView;
 
 /**
@@ -80,6 +89,53 @@ public class TestSanguineModel {
     assertTrue(!model.isValidDeck(deck));
   }
 
+  @Test
+  public void testDeckValidatorGivesReasonOfEachDeck() {
+    DeckValidator validator = new DeckValidator(3, 5);
+    List<SanguineCard> valid = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> withNull = new ArrayList<>(valid);
+    withNull.set(20, null);
+    List<SanguineCard> threeCopies = new ArrayList<>(valid);
+    threeCopies.add(valid.getFirst().getCopy());
+
+    assertEquals(DeckValidator.Reason.VALID, validator.validate(valid));
+    assertEquals(DeckValidator.Reason.NULL_DECK, validator.validate(null));
+    assertEquals(DeckValidator.Reason.TOO_FEW_CARDS, validator.validate(valid.subList(0, 14)));
+    assertEquals(DeckValidator.Reason.NULL_CARD, validator.validate(withNull));
+    assertEquals(DeckValidator.Reason.TOO_MANY_COPIES, validator.validate(threeCopies));
+    assertEquals(DeckValidator.Reason.TOO_FEW_CARDS,
+        new DeckValidator(7, 7).validate(valid));
+  }
+
+  @Test
+  public void testDeckValidatorChecksBatchesInParallel() {
+    List<SanguineCard> cards = controller.createDeck("docs\\example.deck", Player.RED);
+    List<List<SanguineCard>> decks = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      List<SanguineCard> deck = new ArrayList<>(cards);
+      if (i % 3 == 1) {
+        deck.add(cards.get(i % cards.size()));
+      } else if (i % 3 == 2) {
+        deck.set(i % cards.size(), null);
+      }
+      decks.add(deck);
+    }
+    decks.add(null);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      DeckValidator.Reason[] reasons = new DeckValidator(3, 5, pool).validateAll(decks);
+
+      assertEquals(decks.size(), reasons.length);
+      for (int i = 0; i < decks.size(); i++) {
+        assertEquals(new DeckValidator(3, 5).validate(decks.get(i)), reasons[i]);
+      }
+      assertEquals(DeckValidator.Reason.VALID, reasons[999]);
+      assertEquals(DeckValidator.Reason.NULL_DECK, reasons[1000]);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   // GAME START
   @Test
   public void testStartGameValidInputsInitializesBoardAndHands() {
@@ -333,6 +389,64 @@ public class TestSanguineModel {
     assertTrue(!copyBoard[0][0].equals(model.getBoard()[0][0]));
   }
 
+  @Test
+  public void testGetElementAtMatchesGetBoard() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(3, deck, deck, false);
+    model.placeCard(0, 0, 0);
+    SanguineElement[][] board = model.getBoard();
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        assertEquals(board[row][col], model.getElementAt(row, col));
+      }
+    }
+    assertThrows(IllegalArgumentException.class, () -> model.getElementAt(3, 0));
+  }
+
+  @Test
+  public void testCopyConstructorCopiesStateIndependently() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(3, deck, deck2, false);
+    model.applyMove(new Move(0, 0, 0));
+    model.applyMove(Move.PASS);
+
+    SanguineModel copy = new BasicSanguineModel(model);
+    assertEquals(model.getPositionHash(), copy.getPositionHash());
+    assertEquals(1, copy.getTurnsWithoutChange());
+    assertEquals(model.getDeck(Player.BLUE), copy.getDeck(Player.BLUE));
+    assertTrue(Arrays.deepEquals(model.getBoard(), copy.getBoard()));
+
+    copy.applyMove(copy.getLegalMoves(Player.RED).getFirst());
+    assertNotEquals(model.getPositionHash(), copy.getPositionHash());
+    assertEquals(3, model.getHands(Player.RED).size());
+    assertEquals(1, model.getTurnsWithoutChange());
+  }
+
+  @Test
+  public void testSnapshotIsReusedUntilBoardChanges() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(3, deck, deck, false);
+    BoardSnapshot before = model.getSnapshot();
+    assertSame(before, model.getSnapshot());
+    model.placeCard(0, 0, 0);
+    BoardSnapshot after = model.getSnapshot();
+    assertNotSame(before, after);
+    assertTrue(before.isEmpty(0, 1));
+    assertEquals(1, before.getNumPawns(0, 0));
+    assertNotNull(after.getCard(0, 0));
+    SanguineElement[][] board = model.getBoard();
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        assertEquals(board[row][col], after.getElementAt(row, col));
+      }
+    }
+    assertThrows(IllegalArgumentException.class, () -> after.getElementAt(0, 5));
+  }
+
   @Test
   public void testPlaceCardInfluenceChangesPawnOwnershipToCardOwner() {
     SanguineModel model = new BasicSanguineModel(3, 5);
@@ -371,4 +485,191 @@ public class TestSanguineModel {
       }
     }
   }
+
+  // CARDS
+  @Test
+  public void testCardGridAndMaskAgree() {
+    Influence[][] grid = new Influence[5][5];
+    grid[1][2] = new BasicInfluence(1);
+    grid[2][4] = new BasicInfluence(1);
+    BasicSanguineCard fromGrid = new BasicSanguineCard(2, 1, "Card", grid, Player.RED);
+    BasicSanguineCard fromMask =
+        new BasicSanguineCard(2, 1, "Card", 1 << 7 | 1 << 14, Player.RED);
+
+    assertEquals(1 << 7 | 1 << 14, fromGrid.getInfluenceMask());
+    assertEquals(fromGrid, fromMask);
+    assertEquals(fromGrid.hashCode(), fromMask.hashCode());
+    assertTrue(Arrays.deepEquals(grid, fromMask.getInfluenceGrid()));
+    assertSame(BasicInfluence.ONE_PAWN, fromMask.getInfluenceGrid()[1][2]);
+    assertEquals(1, fromMask.getPawnIncrease(7));
+    assertEquals(0, fromMask.getPawnIncrease(8));
+    assertThrows(IllegalArgumentException.class,
+        () -> new BasicSanguineCard(1, 1, "Card", new Influence[3][5], Player.RED));
+    assertThrows(IllegalArgumentException.class,
+        () -> new BasicSanguineCard(1, 1, "Card", 1 << 25, Player.RED));
+  }
+
+  @Test
+  public void testCardKeepsInfluencesAddingMoreThanOnePawn() {
+    Influence[][] grid = new Influence[5][5];
+    grid[0][1] = new BasicInfluence(2);
+    grid[3][3] = new BasicInfluence(1);
+    BasicSanguineCard card = new BasicSanguineCard(1, 1, "Card", grid, Player.RED);
+    Influence[][] unit = new Influence[5][5];
+    unit[0][1] = new BasicInfluence(1);
+    unit[3][3] = new BasicInfluence(1);
+
+    assertEquals(2, card.getPawnIncrease(1));
+    assertEquals(1, card.getPawnIncrease(18));
+    assertEquals(new BasicInfluence(2), card.getInfluenceGrid()[0][1]);
+    assertNotEquals(new BasicSanguineCard(1, 1, "Card", unit, Player.RED), card);
+    assertEquals(card, card.getCopy());
+  }
+
+  @Test
+  public void testCardMirrorFlipsColumns() {
+    Influence[][] grid = new Influence[5][5];
+    grid[0][0] = new BasicInfluence(3);
+    grid[2][1] = new BasicInfluence(1);
+    grid[4][2] = new BasicInfluence(1);
+    Influence[][] flipped = new Influence[5][5];
+    flipped[0][4] = new BasicInfluence(3);
+    flipped[2][3] = new BasicInfluence(1);
+    flipped[4][2] = new BasicInfluence(1);
+    BasicSanguineCard card = new BasicSanguineCard(1, 2, "Card", grid, Player.RED);
+
+    BasicSanguineCard mirror = card.mirror(Player.BLUE);
+
+    assertEquals(new BasicSanguineCard(1, 2, "Card", flipped, Player.BLUE), mirror);
+    assertEquals(Player.BLUE, mirror.getOwner());
+    assertEquals(card, mirror.mirror(Player.RED));
+  }
+
+  // POSITION HASH
+  @Test
+  public void testPositionHashEqualForSameConfiguration() {
+    SanguineModel model1 = new BasicSanguineModel(3, 5);
+    SanguineModel model2 = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model1.configureGame(3, deck, deck, false);
+    model2.configureGame(3, deck, deck, false);
+    assertEquals(model1.getPositionHash(), model2.getPositionHash());
+    model1.placeCard(0, 0, 0);
+    assertTrue(model1.getPositionHash() != model2.getPositionHash());
+    model2.placeCard(0, 0, 0);
+    assertEquals(model1.getPositionHash(), model2.getPositionHash());
+  }
+
+  @Test
+  public void testPositionHashCoversSideToMove() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(3, deck, deck, false);
+    long redToMove = model.getPositionHash();
+    model.switchPlayer();
+    assertTrue(redToMove != model.getPositionHash());
+    model.switchPlayer();
+    assertEquals(redToMove, model.getPositionHash());
+  }
+
+  @Test
+  public void testPositionHashSameForTranspositions() {
+    SanguineModel model1 = new BasicSanguineModel(3, 5);
+    SanguineModel model2 = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model1.configureGame(3, deck, deck, false);
+    model2.configureGame(3, deck, deck, false);
+
+    model1.placeCard(0, 0, 0);
+    model1.placeCard(1, 2, 0);
+    model2.placeCard(2, 2, 0);
+    model2.placeCard(0, 0, 0);
+    assertEquals(Arrays.deepToString(model1.getBoard()), Arrays.deepToString(model2.getBoard()));
+    assertEquals(model1.getPositionHash(), model2.getPositionHash());
+  }
+
+  // MAKE / UNMAKE
+  @Test
+  public void testApplyMovePlacesCardSwitchesPlayerAndDraws() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(3, deck, deck, false);
+    int blueDeckSize = model.getDeck(Player.BLUE).size();
+    model.applyMove(new Move(0, 0, 0));
+    assertTrue(model.getBoard()[0][0] instanceof SanguineCard);
+    assertEquals(2, model.getHands(Player.RED).size());
+    assertEquals(Player.BLUE, model.getCurrPlayer());
+    assertEquals(4, model.getHands(Player.BLUE).size());
+    assertEquals(blueDeckSize - 1, model.getDeck(Player.BLUE).size());
+  }
+
+  @Test
+  public void testUndoMoveRestoresPosition() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(3, deck, deck2, false);
+    String board = Arrays.deepToString(model.getBoard());
+    List<SanguineCard> redHand = model.getHands(Player.RED);
+    long hash = model.getPositionHash();
+
+    model.applyMove(new Move(0, 0, 0));
+    model.applyMove(new Move(1, 1, 4));
+    model.applyMove(Move.PASS);
+    model.undoMove();
+    model.undoMove();
+    model.undoMove();
+
+    assertEquals(board, Arrays.deepToString(model.getBoard()));
+    assertEquals(redHand, model.getHands(Player.RED));
+    assertEquals(Player.RED, model.getCurrPlayer());
+    assertEquals(hash, model.getPositionHash());
+    assertEquals(0, model.getScore(Player.RED));
+  }
+
+  @Test
+  public void testUndoMoveRestoresPassCount() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    model.configureGame(3, deck, deck, false);
+    model.applyMove(Move.PASS);
+    model.applyMove(Move.PASS);
+    assertTrue(model.isGameOver());
+    model.undoMove();
+    assertFalse(model.isGameOver());
+  }
+
+  @Test
+  public void testUndoMoveWithoutMoveThrowsIllegalStateException() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    assertThrows(IllegalStateException.class, model::undoMove);
+  }
+
+  // LEGAL MOVES
+  @Test
+  public void testGetLegalMovesMatchesCanBePlaced() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    model.placeCard(0, 1, 0);
+    model.switchPlayer();
+    model.placeCard(4, 1, 4);
+    model.switchPlayer();
+
+    for (Player player : Player.values()) {
+      List<Move> expected = new ArrayList<>();
+      List<SanguineCard> hand = model.getHands(player);
+      for (int cardInd = 0; cardInd < hand.size(); cardInd++) {
+        for (int row = 0; row < model.getNumRows(); row++) {
+          for (int col = 0; col < model.getNumColumns(); col++) {
+            if (model.canBePlaced(hand.get(cardInd), model.getBoard()[row][col])) {
+              expected.add(new Move(cardInd, row, col));
+            }
+          }
+        }
+      }
+      assertEquals(expected, model.getLegalMoves(player));
+    }
+  }
 }
@@ -2,12 +2,23 @@ package sanguine;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 import sanguine.controller.BasicSanguineController;
@@ -19,10 +30,20 @@ import sanguine.model.Player;
 import sanguine.model.SanguineCard;
 import sanguine.model.SanguineModel;
 import sanguine.player.HumanPlayer;
+import sanguine.strategy.AlphaBetaStrategy;
+import sanguine.strategy.EndgameSolver;
+import sanguine.strategy.EndgameStrategy;
 import sanguine.strategy.FillFirst;
+import sanguine.strategy.LazySmpStrategy;
 import sanguine.strategy.MaximizeRowScore;
+import sanguine.strategy.MctsStrategy;
+import sanguine.strategy.OpeningBook;
+import sanguine.strategy.OpeningBookBuilder;
+import sanguine.strategy.OpeningBookStrategy;
 import sanguine.strategy.Move;
 import sanguine.strategy.SanguineStrategy;
+import sanguine.tournament.Tournament;
+import sanguine.tournament.TournamentResult;
 import sanguine.view.JFrameView;
 
 /**
@@ -134,7 +155,7 @@ public class TestStrategies {
   }
 
   @Test
-  public void testFillFirstCallsGetBoard() {
+  public void testFillFirstCallsGetElementAt() {
     Appendable log = new StringBuilder();
 
     SanguineCard card = new BasicSanguineCard(1, 1, "Card", emptyInfluence, Player.RED);
@@ -146,7 +167,8 @@ public class TestStrategies {
 
     strategy.chooseMoves(model, Player.RED);
 
-    assertTrue(log.toString().contains("getBoard"));
+    assertTrue(log.toString().contains("getElementAt"));
+    assertFalse(log.toString().contains("getBoard"));
   }
 
   @Test
@@ -326,4 +348,449 @@ public class TestStrategies {
     assertFalse(moves.isEmpty());
     assertEquals(1, moves.getFirst().getRow());
   }
+
+  @Test
+  public void testAlphaBetaChoosesLegalMoveWithoutChangingModel() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    long hash = model.getPositionHash();
+
+    SanguineStrategy strategy = new AlphaBetaStrategy(10000, 3);
+    List<Move> moves = strategy.chooseMoves(model, Player.RED);
+
+    assertEquals(1, moves.size());
+    assertTrue(model.getLegalMoves(Player.RED).contains(moves.getFirst()));
+    assertEquals(hash, model.getPositionHash());
+    assertTrue(strategy.chooseMoves(model, Player.BLUE).isEmpty());
+  }
+
+  @Test
+  public void testAlphaBetaDepthOneMaximizesScoreDifference() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    model.applyMove(new FillFirst().chooseMoves(model, Player.RED).getFirst());
+
+    int best = scoreDifferenceAfter(model, Move.PASS);
+    for (Move move : model.getLegalMoves(Player.BLUE)) {
+      best = Math.max(best, scoreDifferenceAfter(model, move));
+    }
+    List<Move> moves = new AlphaBetaStrategy(10000, 1).chooseMoves(model, Player.BLUE);
+    Move chosen = moves.isEmpty() ? Move.PASS : moves.getFirst();
+
+    assertEquals(best, scoreDifferenceAfter(model, chosen));
+  }
+
+  @Test
+  public void testAlphaBetaForgetsPositionsOfEarlierGames() {
+    for (int seed = 0; seed < 20; seed++) {
+      Random random = new Random(seed);
+      List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+      List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+      Collections.shuffle(deck, random);
+      Collections.shuffle(deck2, random);
+      SanguineModel first = new BasicSanguineModel(3, 5);
+      first.configureGame(5, deck, deck2, false);
+      //the same hands and next draws, then the rest of the decks in the opposite order
+      SanguineModel second = new BasicSanguineModel(3, 5);
+      second.configureGame(5, reverseEnd(deck, deck.size() - 6),
+          reverseEnd(deck2, deck2.size() - 6), false);
+      assertEquals(first.getPositionHash(), second.getPositionHash());
+
+      SanguineStrategy reused = new AlphaBetaStrategy(60000, 5);
+      reused.chooseMoves(first, Player.RED);
+
+      assertEquals(new AlphaBetaStrategy(60000, 5).chooseMoves(second, Player.RED),
+          reused.chooseMoves(second, Player.RED));
+    }
+  }
+
+  @Test
+  public void testAlphaBetaStopsAtTimeLimit() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+
+    long start = System.currentTimeMillis();
+    List<Move> moves = new AlphaBetaStrategy(50).chooseMoves(model, Player.RED);
+
+    assertTrue(System.currentTimeMillis() - start < 2000);
+    assertEquals(1, moves.size());
+  }
+
+  @Test
+  public void testAlphaBetaPondersUntilItsMoveIsNeeded() throws InterruptedException {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(50);
+    //nothing to ponder on the strategy's own turn
+    strategy.ponder(model, Player.RED);
+
+    Thread ponder = new Thread(() -> strategy.ponder(model, Player.BLUE));
+    ponder.start();
+    Thread.sleep(100);
+    assertTrue(ponder.isAlive());
+    model.applyMove(new FillFirst().chooseMoves(model, Player.RED).getFirst());
+    List<Move> moves = strategy.chooseMoves(model, Player.BLUE);
+    ponder.join(2000);
+
+    assertFalse(ponder.isAlive());
+    assertEquals(1, moves.size());
+    assertTrue(model.getLegalMoves(Player.BLUE).contains(moves.getFirst()));
+  }
+
+  @Test
+  public void testAlphaBetaStopsSearchingSolvedPositions() throws InterruptedException {
+    //a tied endgame, where the score of the search gives no hint that the game is solved
+    EndgameSolver solver = new EndgameSolver(4, 5);
+    SanguineModel model;
+    int seed = 0;
+    do {
+      model = playUntilEndgame(solver, seed++);
+    } while (model.isGameOver() || solver.solve(model, 60000).getMargin() != 0);
+    Player player = model.getCurrPlayer();
+    Player opponent = player == Player.RED ? Player.BLUE : Player.RED;
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(600000);
+
+    //pondering has no deadline, so it only returns by itself once every line reaches the end
+    SanguineModel position = model;
+    Thread ponder = new Thread(() -> strategy.ponder(position, opponent));
+    ponder.start();
+    ponder.join(10000);
+    boolean finished = !ponder.isAlive();
+    strategy.stopPondering();
+    ponder.join();
+    assertTrue(finished);
+
+    long start = System.nanoTime();
+    List<Move> moves = strategy.chooseMoves(model, player);
+    assertTrue(System.nanoTime() - start < 10_000_000_000L);
+    assertTrue(moves.isEmpty() || model.getLegalMoves(player).contains(moves.getFirst()));
+  }
+
+  @Test
+  public void testLazySmpChoosesLegalMoveWithoutChangingModel() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    long hash = model.getPositionHash();
+
+    LazySmpStrategy strategy = new LazySmpStrategy(10000, 3, 3);
+    List<Move> moves = strategy.chooseMoves(model, Player.RED);
+
+    assertEquals(1, moves.size());
+    assertTrue(model.getLegalMoves(Player.RED).contains(moves.getFirst()));
+    assertEquals(hash, model.getPositionHash());
+    assertTrue(strategy.getNodesPerSecond() > 0);
+    assertEquals(3, strategy.getNumThreads());
+  }
+
+  @Test
+  public void testLazySmpWithOneThreadMatchesAlphaBeta() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+
+    assertEquals(new AlphaBetaStrategy(10000, 4).chooseMoves(model, Player.RED),
+        new LazySmpStrategy(10000, 4, 1).chooseMoves(model, Player.RED));
+  }
+
+  @Test
+  public void testMctsChoosesLegalMoveWithoutChangingModel() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    long hash = model.getPositionHash();
+
+    MctsStrategy strategy = new MctsStrategy(200, 2, 42, ForkJoinPool.commonPool());
+    List<Move> moves = strategy.chooseMoves(model, Player.RED);
+
+    assertEquals(1, moves.size());
+    assertTrue(model.getLegalMoves(Player.RED).contains(moves.getFirst()));
+    assertEquals(hash, model.getPositionHash());
+    assertTrue(strategy.getPlayoutsPerSecond() > 0);
+    assertTrue(strategy.chooseMoves(model, Player.BLUE).isEmpty());
+  }
+
+  @Test
+  public void testMctsIsReproducibleWithFixedSeed() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    model.applyMove(new FillFirst().chooseMoves(model, Player.RED).getFirst());
+
+    ForkJoinPool onePool = new ForkJoinPool(1);
+    ForkJoinPool fourPool = new ForkJoinPool(4);
+    List<Move> first = new MctsStrategy(300, 4, 7, onePool).chooseMoves(model, Player.BLUE);
+    List<Move> second = new MctsStrategy(300, 4, 7, fourPool).chooseMoves(model, Player.BLUE);
+    onePool.shutdown();
+    fourPool.shutdown();
+
+    assertEquals(first, second);
+  }
+
+  @Test
+  public void testEndgameSolverMatchesExhaustiveSearch() {
+    EndgameSolver solver = new EndgameSolver(5, 5);
+    int solved = 0;
+    for (int seed = 0; seed < 20; seed++) {
+      SanguineModel model = playUntilEndgame(solver, seed);
+      if (model.isGameOver()) {
+        continue;
+      }
+      long hash = model.getPositionHash();
+      solver.clear();
+      EndgameSolver.Solution solution = solver.solve(model, 60000);
+      assertEquals(exhaustiveMargin(new BasicSanguineModel(model)), solution.getMargin());
+      assertEquals(hash, model.getPositionHash());
+
+      model.applyMove(solution.getMove());
+      assertEquals(-solution.getMargin(), exhaustiveMargin(new BasicSanguineModel(model)));
+      solved++;
+    }
+    assertTrue(solved > 0);
+  }
+
+  @Test
+  public void testEndgameStrategyIsExactAcrossGamesWithDifferentDecks() {
+    EndgameSolver probe = new EndgameSolver(5, 5);
+    int differing = 0;
+    for (int seed = 0; seed < 40; seed++) {
+      Random random = new Random(seed);
+      List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+      List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+      Collections.shuffle(deck, random);
+      Collections.shuffle(deck2, random);
+      SanguineModel first = new BasicSanguineModel(3, 5);
+      first.configureGame(5, deck, deck2, false);
+      List<Move> moves = new ArrayList<>();
+      while (!first.isGameOver() && !probe.isEndgame(first)) {
+        List<Move> legal = first.getLegalMoves(first.getCurrPlayer());
+        Move move = legal.isEmpty() || random.nextInt(8) == 0
+            ? Move.PASS : legal.get(random.nextInt(legal.size()));
+        moves.add(move);
+        first.applyMove(move);
+      }
+      int redLeft = first.getDeck(Player.RED).size();
+      int blueLeft = first.getDeck(Player.BLUE).size();
+      if (first.isGameOver() || redLeft < 3 && blueLeft < 3) {
+        continue;
+      }
+      //the same position in a game drawing the same next cards, but the ones after them in the
+      //opposite order, so that the positions after the next move are the same in both games
+      SanguineModel second = new BasicSanguineModel(3, 5);
+      second.configureGame(5, reverseEnd(deck, Math.max(redLeft - 1, 0)),
+          reverseEnd(deck2, Math.max(blueLeft - 1, 0)), false);
+      for (Move move : moves) {
+        second.applyMove(move);
+      }
+      assertEquals(first.getPositionHash(), second.getPositionHash());
+      int best = exhaustiveMargin(new BasicSanguineModel(second));
+      if (best != exhaustiveMargin(new BasicSanguineModel(first))) {
+        differing++;
+      }
+
+      EndgameSolver solver = new EndgameSolver(5, 5);
+      solver.solve(first, 60000);
+      assertEquals(best, solver.solve(second, 60000).getMargin());
+      EndgameStrategy strategy = new EndgameStrategy(new FillFirst(), 5, 5, 60000);
+      strategy.chooseMoves(first, first.getCurrPlayer());
+      List<Move> chosen = strategy.chooseMoves(second, second.getCurrPlayer());
+      second.applyMove(chosen.isEmpty() ? Move.PASS : chosen.getFirst());
+      assertEquals(best, -exhaustiveMargin(new BasicSanguineModel(second)));
+    }
+    assertTrue(differing > 0);
+  }
+
+  @Test
+  public void testEndgameStrategyUsesFallbackBeforeEndgame() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+
+    assertEquals(new FillFirst().chooseMoves(model, Player.RED),
+        new EndgameStrategy(new FillFirst()).chooseMoves(model, Player.RED));
+  }
+
+  @Test
+  public void testEndgameStrategyFallsBackWithinTimeLimit() {
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    model.configureGame(5, deck, deck2, false);
+    //the whole game counts as the endgame, which the solver can't finish in time
+    AlphaBetaStrategy fallback = new AlphaBetaStrategy(1000);
+    EndgameStrategy strategy = new EndgameStrategy(fallback, 15, 5, 1000);
+
+    long start = System.nanoTime();
+    List<Move> moves = strategy.chooseMoves(model, Player.RED);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    assertSame(fallback.getLastStatistics(), strategy.getLastStatistics());
+    assertTrue(model.getLegalMoves(Player.RED).containsAll(moves));
+    assertTrue("took " + elapsedMillis + "ms", elapsedMillis < 1400);
+  }
+
+  @Test
+  public void testOpeningBookCoversBuiltTurns() throws IOException {
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    SanguineModel start = new BasicSanguineModel(3, 5);
+    start.configureGame(5, deck, deck2, false);
+    start.drawCard();
+    Path path = Files.createTempFile("sanguine", ".book");
+    //a mapped file can't be deleted on every platform until the mapping is collected
+    path.toFile().deleteOnExit();
+    long size = new OpeningBookBuilder(10000, 2).build(start, 2, path);
+    OpeningBook book = OpeningBook.open(path);
+    assertEquals(size, book.size());
+
+    //a game started by a controller, which draws Red's first card
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    model.configureGame(5, deck, deck2, false);
+    new BasicSanguineController(new MockViewLogsMethods(new StringBuilder()), new HumanPlayer(),
+        Player.RED).playGame(model);
+    Move first = book.lookup(model);
+    assertNotNull(first);
+    assertTrue(model.getLegalMoves(Player.RED).contains(first));
+    assertEquals(first.isPass() ? List.of() : List.of(first),
+        new OpeningBookStrategy(book, new FillFirst()).chooseMoves(model, Player.RED));
+    model.applyMove(first);
+    Move second = book.lookup(model);
+    assertNotNull(second);
+    assertEquals(second.isPass() ? List.of() : List.of(second),
+        new OpeningBookStrategy(book, new FillFirst()).chooseMoves(model, Player.BLUE));
+
+    model.applyMove(second);
+    assertNull(book.lookup(model));
+    assertEquals(new FillFirst().chooseMoves(model, Player.RED),
+        new OpeningBookStrategy(book, new FillFirst()).chooseMoves(model, Player.RED));
+  }
+
+  @Test
+  public void testOpeningBookRejectsOtherFiles() throws IOException {
+    Path path = Files.createTempFile("sanguine", ".book");
+    try {
+      Files.writeString(path, "not a book at all, but long enough");
+      assertThrows(IllegalArgumentException.class, () -> OpeningBook.open(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testTournamentIsReproducibleWithAnyNumberOfThreads() {
+    Tournament tournament = new Tournament(3, 5, 5,
+        controller.createDeck("docs\\example.deck", Player.RED),
+        controller.createDeck("docs\\example.deck", Player.BLUE));
+    //strategy3 limited by depth rather than time, so that its moves don't depend on the machine
+    AtomicInteger created = new AtomicInteger();
+    Supplier<SanguineStrategy> strategy3 = () -> {
+      created.incrementAndGet();
+      return new EndgameStrategy(new AlphaBetaStrategy(60000, 2), 6, 5, 60000);
+    };
+    TournamentResult one = tournament.run(strategy3, MaximizeRowScore::new, 12, 1, 7);
+    TournamentResult two = tournament.run(strategy3, MaximizeRowScore::new, 12, 3, 7);
+
+    assertEquals(12, one.getGames());
+    assertEquals(12, one.getFirstWins() + one.getSecondWins() + one.getDraws());
+    assertEquals(one.getFirstWins(), two.getFirstWins());
+    assertEquals(one.getSecondWins(), two.getSecondWins());
+    assertEquals(one.getAverageMargin(), two.getAverageMargin(), 0);
+    assertEquals(0, one.getIllegalMoves());
+    //a new strategy for every game, not one per thread
+    assertEquals(24, created.get());
+  }
+
+  @Test
+  public void testTournamentPlaysIllegalMovesAsPasses() {
+    Tournament tournament = new Tournament(3, 5, 5,
+        controller.createDeck("docs\\example.deck", Player.RED),
+        controller.createDeck("docs\\example.deck", Player.BLUE));
+    SanguineStrategy illegal = (model, player) -> List.of(new Move(0, -1, -1));
+    TournamentResult result = tournament.run(() -> illegal, FillFirst::new, 2, 1, 0);
+
+    assertEquals(2, result.getGames());
+    assertTrue(result.getIllegalMoves() > 0);
+    assertEquals(2, result.getSecondWins());
+    assertEquals(Double.NEGATIVE_INFINITY, result.getEloDifference(), 0);
+  }
+
+  @Test
+  public void testSeededModelsShuffleAlike() {
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    SanguineModel first = new BasicSanguineModel(3, 5, new Random(3));
+    SanguineModel second = new BasicSanguineModel(3, 5, new Random(3));
+    first.configureGame(5, deck, deck2, true);
+    second.configureGame(5, deck, deck2, true);
+
+    assertEquals(first.getHands(Player.RED), second.getHands(Player.RED));
+    assertEquals(first.getDeck(Player.BLUE), second.getDeck(Player.BLUE));
+  }
+
+  /**
+   * Plays random moves from a shuffled game until the solver can take over or the game ends.
+   */
+  private SanguineModel playUntilEndgame(EndgameSolver solver, int seed) {
+    Random random = new Random(seed);
+    List<SanguineCard> deck = controller.createDeck("docs\\example.deck", Player.RED);
+    List<SanguineCard> deck2 = controller.createDeck("docs\\example.deck", Player.BLUE);
+    Collections.shuffle(deck, random);
+    Collections.shuffle(deck2, random);
+    SanguineModel model = new BasicSanguineModel(3, 5);
+    model.configureGame(5, deck, deck2, false);
+    while (!model.isGameOver() && !solver.isEndgame(model)) {
+      List<Move> legal = model.getLegalMoves(model.getCurrPlayer());
+      model.applyMove(legal.isEmpty() || random.nextInt(8) == 0
+          ? Move.PASS : legal.get(random.nextInt(legal.size())));
+    }
+    return model;
+  }
+
+  /**
+   * Returns the final margin for the player to move with perfect play, trying every line.
+   */
+  private int exhaustiveMargin(SanguineModel model) {
+    Player player = model.getCurrPlayer();
+    Player opponent = player == Player.RED ? Player.BLUE : Player.RED;
+    if (model.isGameOver()) {
+      return model.getScore(player) - model.getScore(opponent);
+    }
+    List<Move> moves = new ArrayList<>(model.getLegalMoves(player));
+    moves.add(Move.PASS);
+    int best = Integer.MIN_VALUE;
+    for (Move move : moves) {
+      model.applyMove(move);
+      best = Math.max(best, -exhaustiveMargin(model));
+      model.undoMove();
+    }
+    return best;
+  }
+
+  /**
+   * Returns a copy of the deck with its last cards in the opposite order.
+   */
+  private static List<SanguineCard> reverseEnd(List<SanguineCard> deck, int count) {
+    List<SanguineCard> copy = new ArrayList<>(deck);
+    Collections.reverse(copy.subList(copy.size() - count, copy.size()));
+    return copy;
+  }
+
+  private int scoreDifferenceAfter(SanguineModel model, Move move) {
+    SanguineModel copy = new BasicSanguineModel(model);
+    copy.applyMove(move);
+    return copy.getScore(Player.BLUE) - copy.getScore(Player.RED);
+  }
 }